@@ -0,0 +1,37 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks. Acepta las mismas opciones que
+ * {@code org.openjdk.jmh.Main} y agrega por defecto el perfilador gc (tasa de
+ * asignación por operación) y el reporte JSON en target/jmh-result.json.
+ *
+ * Ejemplos:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@jmh
+ * mvn -Pbenchmark test-compile exec:exec@jmh -Djmh.args="ServiceBenchmark -p rows=10000"
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/jmh-result.json")
+				.build();
+		new Runner(options).run();
+	}
+}
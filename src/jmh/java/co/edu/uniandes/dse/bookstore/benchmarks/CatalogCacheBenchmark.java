@@ -0,0 +1,80 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapper;
+import co.edu.uniandes.dse.bookstore.services.ClothingService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Sentencias SQL por página del catálogo de prendas (GET /clothing) con y sin
+ * la caché de segundo nivel. Cada prenda carga su marca y sus diseñadores; con
+ * la caché esas lecturas salen de memoria después de la primera página.
+ *
+ * Además del throughput, al final de cada iteración imprime el promedio de
+ * sentencias y de aciertos en la caché por página:
+ *
+ * <pre>
+ * -Djmh.args="CatalogCacheBenchmark -p rows=10000 -p secondLevelCache=false,true"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class CatalogCacheBenchmark {
+
+	private TransactionTemplate readOnly;
+	private ClothingService clothingService;
+	private ClothingMapper clothingMapper;
+	private Statistics statistics;
+	private long pages;
+
+	@Setup
+	public void setup(SeededDatabase db) {
+		readOnly = db.readOnly;
+		clothingService = db.getBean(ClothingService.class);
+		clothingMapper = db.getBean(ClothingMapper.class);
+		statistics = db.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetStatistics() {
+		statistics.clear();
+		pages = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void printStatistics() {
+		System.out.printf("%n  sentencias por página: %.1f, aciertos de caché L2 por página: %.1f%n",
+				(double) statistics.getPrepareStatementCount() / pages,
+				(double) statistics.getSecondLevelCacheHitCount() / pages);
+	}
+
+	@Benchmark
+	public List<ClothingDetailDTO> clothingCatalog() {
+		pages++;
+		return readOnly.execute(status -> clothingMapper.toDetailDTOs(clothingService.getClothingItems()));
+	}
+}
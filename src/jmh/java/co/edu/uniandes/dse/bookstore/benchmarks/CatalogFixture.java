@@ -0,0 +1,97 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+import co.edu.uniandes.dse.bookstore.entities.DesignerEntity;
+import co.edu.uniandes.dse.bookstore.entities.PhotoEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+
+/**
+ * Entidades en memoria con la forma de las respuestas de GET /clothing y GET
+ * /productos?view=detail: cada prenda con su marca, tres diseñadores y tres
+ * reseñas; cada producto con su categoría, tres fotos y tres variantes.
+ */
+final class CatalogFixture {
+
+	private CatalogFixture() {
+	}
+
+	static List<ClothingEntity> clothingItems(int size) {
+		BrandEntity brand = new BrandEntity();
+		brand.setId(1L);
+		brand.setName("Marca");
+		UserEntity user = new UserEntity();
+		user.setId(1L);
+		user.setName("Usuario");
+		user.setEmail("usuario@correo.com");
+
+		List<ClothingEntity> clothingItems = new ArrayList<>(size);
+		for (long i = 0; i < size; i++) {
+			ClothingEntity clothing = new ClothingEntity();
+			clothing.setId(i);
+			clothing.setName("Prenda " + i);
+			clothing.setSku("SKU-" + i);
+			clothing.setImage("https://imagenes/" + i);
+			clothing.setReleaseDate(new Date());
+			clothing.setDescription("Descripción de la prenda " + i);
+			clothing.setBrand(brand);
+			for (long j = 0; j < 3; j++) {
+				DesignerEntity designer = new DesignerEntity();
+				designer.setId(j);
+				designer.setName("Diseñador " + j);
+				designer.setBirthDate(new Date());
+				clothing.getDesigners().add(designer);
+
+				ReviewEntity review = new ReviewEntity();
+				review.setId(i * 10 + j);
+				review.setRating((int) j + 1);
+				review.setComment("Comentario " + j);
+				review.setUser(user);
+				clothing.getReviews().add(review);
+			}
+			clothingItems.add(clothing);
+		}
+		return clothingItems;
+	}
+
+	static List<ProductEntity> products(int size) {
+		CategoryEntity category = new CategoryEntity();
+		category.setId(1L);
+		category.setName("Categoría");
+
+		List<ProductEntity> products = new ArrayList<>(size);
+		for (long i = 0; i < size; i++) {
+			ProductEntity product = new ProductEntity();
+			product.setId(i);
+			product.setName("Producto " + i);
+			product.setDescription("Descripción del producto " + i);
+			product.setPrice(10.0 * i);
+			product.setCategory(category);
+			product.setPhotos(new ArrayList<>());
+			product.setVariants(new ArrayList<>());
+			for (long j = 0; j < 3; j++) {
+				PhotoEntity photo = new PhotoEntity();
+				photo.setId(i * 10 + j);
+				photo.setUrl("https://fotos/" + j);
+				product.getPhotos().add(photo);
+
+				VariantEntity variant = new VariantEntity();
+				variant.setId(i * 10 + j);
+				variant.setColor("Color " + j);
+				variant.setSize("M");
+				variant.setStock(5);
+				product.getVariants().add(variant);
+			}
+			products.add(product);
+		}
+		return products;
+	}
+}
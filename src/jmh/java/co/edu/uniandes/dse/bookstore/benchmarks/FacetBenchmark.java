@@ -0,0 +1,96 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniandes.dse.bookstore.dto.ProductFacetDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterDTO;
+import co.edu.uniandes.dse.bookstore.services.FacetIndex;
+
+/**
+ * Latencia de GET /productos/filter sin la consulta de la página: intersección
+ * de bitmaps, conteo de las cuatro facetas y los 20 primeros ids, sobre un
+ * índice de {@code variants} variantes (4 por producto, 8 colores, 6 tallas,
+ * 20 categorías, 30 % sin existencias).
+ *
+ * <pre>
+ * -Djmh.args="FacetBenchmark"
+ * -Djmh.args="FacetBenchmark -p variants=100000,1000000"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class FacetBenchmark {
+
+	private static final int VARIANTS_PER_PRODUCT = 4;
+	private static final String[] COLORS = { "rojo", "azul", "negro", "blanco", "verde", "gris", "beige", "rosado" };
+	private static final String[] SIZES = { "XS", "S", "M", "L", "XL", "XXL" };
+
+	@Param({ "1000000" })
+	int variants;
+
+	private FacetIndex index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		int products = variants / VARIANTS_PER_PRODUCT;
+		List<ProductFacetDTO> rows = new ArrayList<>(variants);
+		for (long id = 1; id <= products; id++) {
+			long category = 1 + random.nextInt(20);
+			double price = 10_000 + random.nextInt(600_000);
+			for (int j = 0; j < VARIANTS_PER_PRODUCT; j++) {
+				rows.add(new ProductFacetDTO(id, category, price, id * VARIANTS_PER_PRODUCT + j,
+						COLORS[random.nextInt(COLORS.length)], SIZES[random.nextInt(SIZES.length)],
+						random.nextInt(10) < 3 ? 0 : 1 + random.nextInt(20)));
+			}
+		}
+		index = new FacetIndex();
+		index.actualizar(LongStream.rangeClosed(1, products).boxed().toList(), rows);
+		index.optimizar();
+	}
+
+	@Benchmark
+	public FacetIndex.Pagina noFilter() {
+		return index.filtrar(new ProductFilterDTO(), 0, 20);
+	}
+
+	@Benchmark
+	public FacetIndex.Pagina colorSizeInStock() {
+		ProductFilterDTO filter = new ProductFilterDTO();
+		filter.setColor(List.of("rojo"));
+		filter.setSize(List.of("M"));
+		filter.setInStock(true);
+		return index.filtrar(filter, 0, 20);
+	}
+
+	@Benchmark
+	public FacetIndex.Pagina allFacets() {
+		ProductFilterDTO filter = new ProductFilterDTO();
+		filter.setColor(List.of("rojo", "azul"));
+		filter.setSize(List.of("M", "L"));
+		filter.setCategory(List.of("3", "7"));
+		filter.setPrice(List.of("50000-100000", "100000-200000"));
+		filter.setInStock(true);
+		return index.filtrar(filter, 0, 20);
+	}
+}
@@ -0,0 +1,107 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.OrganizationDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapper;
+import co.edu.uniandes.dse.bookstore.mappers.OrganizationMapper;
+import co.edu.uniandes.dse.bookstore.repositories.OrganizationRepository;
+import co.edu.uniandes.dse.bookstore.services.ClothingService;
+import co.edu.uniandes.dse.bookstore.services.OrganizationService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Sentencias y memoria asignada por listado de organizaciones (GET
+ * /organizations), del catálogo de prendas (GET /clothing) y por carga de una
+ * organización sin su premio (la que hacen la actualización y el borrado), para
+ * comparar las entidades con y sin mejora de bytecode (atributos y uno a uno
+ * perezosos).
+ *
+ * Al final de cada iteración imprime el promedio de sentencias por operación;
+ * los bytes asignados por operación salen del perfilador de GC de JMH
+ * ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>
+ * -Djmh.args="LazyLoadingBenchmark -p rows=100000 -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class LazyLoadingBenchmark {
+
+	private SeededDatabase db;
+	private TransactionTemplate readOnly;
+	private OrganizationRepository organizationRepository;
+	private OrganizationService organizationService;
+	private OrganizationMapper organizationMapper;
+	private ClothingService clothingService;
+	private ClothingMapper clothingMapper;
+	private Statistics statistics;
+	private long operations;
+
+	@Setup
+	public void setup(SeededDatabase db) {
+		this.db = db;
+		readOnly = db.readOnly;
+		organizationRepository = db.getBean(OrganizationRepository.class);
+		organizationService = db.getBean(OrganizationService.class);
+		organizationMapper = db.getBean(OrganizationMapper.class);
+		clothingService = db.getBean(ClothingService.class);
+		clothingMapper = db.getBean(ClothingMapper.class);
+		statistics = db.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetStatistics() {
+		statistics.clear();
+		operations = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void printStatistics() {
+		System.out.printf("%n  sentencias por operación: %.1f%n",
+				(double) statistics.getPrepareStatementCount() / operations);
+	}
+
+	@Benchmark
+	public List<OrganizationDetailDTO> organizations() {
+		operations++;
+		return readOnly.execute(status -> organizationMapper.toDetailDTOs(organizationService.getOrganizations()));
+	}
+
+	@Benchmark
+	public List<ClothingDetailDTO> clothingCatalog() {
+		operations++;
+		return readOnly.execute(status -> clothingMapper.toDetailDTOs(clothingService.getClothingItems()));
+	}
+
+	@Benchmark
+	public OrganizationEntity organizationLoad() {
+		operations++;
+		return readOnly.execute(status -> organizationRepository.findById(db.randomOrganizationId()).orElseThrow());
+	}
+}
@@ -0,0 +1,185 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.h2.tools.Server;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import co.edu.uniandes.dse.bookstore.ClothingStoreApplication;
+
+/**
+ * Prueba de carga HTTP que compara la atención de peticiones con hilos de
+ * plataforma (pool de Tomcat) y con hilos virtuales
+ * ({@code spring.threads.virtual.enabled}).
+ *
+ * Para cada modo levanta la aplicación completa en un puerto libre, con el
+ * catálogo de {@link SeededDatabase} en una base H2 servida por TCP (para que
+ * cada consulta bloquee en un socket, como con una base remota), y lanza
+ * {@code clients} clientes concurrentes que piden páginas de la vista de
+ * detalle de productos (paginación por llave desde un id aleatorio) sin pausa. Reporta throughput, p50, p99 y errores
+ * después del calentamiento.
+ *
+ * Cada modo corre con su configuración real ({@code VIRTUAL_THREADS}); las
+ * opciones {@code pool} y {@code timeout} (ms) reemplazan las del pool de
+ * conexiones en ambos.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@load
+ * mvn -Pbenchmark test-compile exec:exec@load -Dload.args="clients=2000 seconds=30 warmup=10 rows=100000"
+ * mvn -Pbenchmark test-compile exec:exec@load -Dload.args="pool=20 timeout=5000"
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+	private static final int PAGE_SIZE = 20;
+	private static final int H2_PORT = 9093;
+
+	private LoadTestRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = parse(args);
+		int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+		int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+		int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+		int rows = Integer.parseInt(options.getOrDefault("rows", "100000"));
+
+		Server h2 = Server.createTcpServer("-tcpPort", String.valueOf(H2_PORT), "-ifNotExists").start();
+		try {
+			List<String> report = new ArrayList<>();
+			for (boolean virtual : new boolean[] { false, true }) {
+				report.add(run(virtual, clients, seconds, warmup, rows, options));
+			}
+			System.out.printf("%n%-9s %8s %12s %10s %10s %10s %8s%n", "mode", "clients", "requests/s", "p50 ms",
+					"p99 ms", "max ms", "errors");
+			report.forEach(System.out::println);
+		} finally {
+			h2.stop();
+		}
+	}
+
+	private static String run(boolean virtual, int clients, int seconds, int warmup, int rows,
+			Map<String, String> options) throws Exception {
+		String mode = virtual ? "virtual" : "platform";
+		List<String> arguments = new ArrayList<>(List.of("--server.port=0",
+				"--VIRTUAL_THREADS=" + virtual,
+				"--spring.datasource.url=jdbc:h2:tcp://localhost:" + H2_PORT + "/mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+				"--spring.flyway.locations=classpath:db/migration",
+				"--spring.jpa.properties.hibernate.generate_statistics=false",
+				"--logging.level.root=WARN"));
+		if (options.containsKey("pool")) {
+			arguments.add("--spring.datasource.hikari.maximum-pool-size=" + options.get("pool"));
+		}
+		if (options.containsKey("timeout")) {
+			arguments.add("--spring.datasource.hikari.connection-timeout=" + options.get("timeout"));
+		}
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ClothingStoreApplication.class)
+				.run(arguments.toArray(String[]::new))) {
+			SeededDatabase.seed(context.getBean(JdbcTemplate.class), rows);
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			return measure(mode, "http://localhost:" + port + "/api/productos?view=detail&limit=" + PAGE_SIZE + "&after=",
+					SeededDatabase.productCount(rows), clients, seconds, warmup);
+		}
+	}
+
+	private static String measure(String mode, String url, long products, int clients, int seconds, int warmup)
+			throws InterruptedException {
+		HttpClient http = HttpClient.newBuilder()
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.connectTimeout(Duration.ofSeconds(30))
+				.build();
+		long measureFrom = System.nanoTime() + Duration.ofSeconds(warmup).toNanos();
+		long end = measureFrom + Duration.ofSeconds(seconds).toNanos();
+		AtomicLong errors = new AtomicLong();
+		List<Latencies> latencies = new ArrayList<>(clients);
+		List<Thread> threads = new ArrayList<>(clients);
+
+		for (int c = 0; c < clients; c++) {
+			Latencies own = new Latencies();
+			latencies.add(own);
+			threads.add(Thread.ofVirtual().start(() -> {
+				long sent;
+				while ((sent = System.nanoTime()) < end) {
+					HttpRequest request = HttpRequest
+							.newBuilder(URI.create(url + ThreadLocalRandom.current().nextLong(products))).GET().build();
+					boolean ok;
+					try {
+						ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+					} catch (Exception e) {
+						ok = false;
+					}
+					if (sent < measureFrom) {
+						continue;
+					}
+					if (ok) {
+						own.add(System.nanoTime() - sent);
+					} else {
+						errors.incrementAndGet();
+					}
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		long[] all = latencies.stream().flatMapToLong(Latencies::stream).sorted().toArray();
+		return String.format("%-9s %8d %12.1f %10.1f %10.1f %10.1f %8d", mode, clients, all.length / (double) seconds,
+				percentile(all, 0.50), percentile(all, 0.99), percentile(all, 1.0), errors.get());
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1e6;
+	}
+
+	private static Map<String, String> parse(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			String[] pair = arg.split("=", 2);
+			if (pair.length != 2) {
+				throw new IllegalArgumentException("Se esperaba clave=valor: " + arg);
+			}
+			options.put(pair[0], pair[1]);
+		}
+		return options;
+	}
+
+	/**
+	 * Latencias (en nanosegundos) de un solo cliente; no requiere sincronización.
+	 */
+	private static final class Latencies {
+		private long[] values = new long[1024];
+		private int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		LongStream stream() {
+			return Arrays.stream(values, 0, size);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.mappers.BrandMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapper;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.DesignerMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapper;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ReferenceMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ReviewMapperImpl;
+
+/**
+ * Compara los mappers generados por MapStruct contra el ModelMapper reflexivo
+ * que usaban los controladores, sobre las listas que devuelven los endpoints
+ * GET /clothing y GET /productos?view=detail.
+ *
+ * Ejecución: mvn -Pbenchmark test-compile exec:exec@jmh -Djmh.args=MappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+	private static final Type CLOTHING_LIST = new TypeToken<List<ClothingDetailDTO>>() {
+	}.getType();
+	private static final Type PRODUCT_LIST = new TypeToken<List<ProductDTO>>() {
+	}.getType();
+
+	@Param({ "20", "100" })
+	int size;
+
+	private List<ClothingEntity> clothingItems;
+	private List<ProductEntity> products;
+
+	private ModelMapper modelMapper;
+	private ClothingMapper clothingMapper;
+	private ProductMapper productMapper;
+
+	@Setup
+	public void setup() {
+		modelMapper = new ModelMapper();
+		ReviewMapperImpl reviewMapper = new ReviewMapperImpl(new ReferenceMapperImpl());
+		clothingMapper = new ClothingMapperImpl(new BrandMapperImpl(), new DesignerMapperImpl(), reviewMapper);
+		productMapper = new ProductMapperImpl(reviewMapper);
+
+		clothingItems = CatalogFixture.clothingItems(size);
+		products = CatalogFixture.products(size);
+	}
+
+	@Benchmark
+	public List<ClothingDetailDTO> clothingModelMapper() {
+		return modelMapper.map(clothingItems, CLOTHING_LIST);
+	}
+
+	@Benchmark
+	public List<ClothingDetailDTO> clothingMapStruct() {
+		return clothingMapper.toDetailDTOs(clothingItems);
+	}
+
+	@Benchmark
+	public List<ProductDTO> productsModelMapper() {
+		return modelMapper.map(products, PRODUCT_LIST);
+	}
+
+	@Benchmark
+	public List<ProductDTO> productsMapStruct() {
+		return productMapper.toDTOs(products);
+	}
+}
@@ -0,0 +1,193 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.bookstore.ClothingStoreApplication;
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+
+/**
+ * Contexto de Spring (sin servidor web) sobre una base H2 en memoria poblada
+ * con {@code rows} productos y {@code rows} reseñas (10 por producto).
+ *
+ * El catálogo de prendas y las organizaciones (cada una con un premio otorgado
+ * por su propio diseñador) se pueblan con {@code rows / 100} elementos porque
+ * {@code getClothingItems} no está paginado: a escala completa una sola
+ * invocación tardaría minutos y solo mediría el N+1 de diseñadores y reseñas.
+ *
+ * Los datos se insertan por JDBC en lotes, con ids explícitos, para que el
+ * tiempo de preparación no dependa del ORM que se está midiendo.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+	private static final int BATCH_SIZE = 10_000;
+	private static final int CATEGORIES = 10;
+	private static final int BRANDS = 20;
+	private static final int REVIEWS_PER_PRODUCT = 10;
+	private static final int CLOTHING_RATIO = 100;
+	private static final int ALLOCATION_SIZE = 50;
+	private static final List<String> CACHE_REGIONS = List.of(SecondLevelCacheConfig.CATEGORIES,
+			SecondLevelCacheConfig.BRANDS, SecondLevelCacheConfig.ORGANIZATIONS, SecondLevelCacheConfig.DESIGNERS,
+			SecondLevelCacheConfig.CLOTHING_DESIGNERS, SecondLevelCacheConfig.REFERENCE_QUERIES,
+			"default-query-results-region", "default-update-timestamps-region");
+
+	@Param({ "10000", "100000", "1000000" })
+	public int rows;
+
+	/**
+	 * Activa la caché de segundo nivel de Hibernate; para comparar, ejecutar con
+	 * {@code -p secondLevelCache=false,true}. Las regiones se declaran aquí con
+	 * tamaño suficiente para todo el catálogo, porque en el classpath de los
+	 * benchmarks el application.properties de pruebas oculta al principal.
+	 */
+	@Param({ "false" })
+	public boolean secondLevelCache;
+
+	public ConfigurableApplicationContext context;
+	public TransactionTemplate readOnly;
+	public long products;
+	public long clothingItems;
+	public long organizations;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		List<String> args = new ArrayList<>(List.of(
+				"--spring.datasource.url=jdbc:h2:mem:benchmark-" + rows + "-" + secondLevelCache + ";DB_CLOSE_DELAY=-1",
+				"--spring.flyway.locations=classpath:db/migration",
+				"--spring.jpa.properties.hibernate.generate_statistics=false",
+				"--logging.level.root=WARN"));
+		if (secondLevelCache) {
+			args.addAll(List.of("--spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+					"--spring.jpa.properties.hibernate.cache.use_query_cache=true",
+					"--spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+					"--spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"));
+			for (String region : CACHE_REGIONS) {
+				args.add("--bookstore.hibernate-cache.regions." + region + ".maximum-size=" + Integer.MAX_VALUE);
+			}
+		}
+		context = new SpringApplicationBuilder(ClothingStoreApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(args.toArray(String[]::new));
+		readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnly.setReadOnly(true);
+
+		products = productCount(rows);
+		clothingItems = clothingCount(rows);
+		organizations = clothingItems;
+		seed(context.getBean(JdbcTemplate.class), rows);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public long randomProductId() {
+		return ThreadLocalRandom.current().nextLong(1, products + 1);
+	}
+
+	public long randomOrganizationId() {
+		return ThreadLocalRandom.current().nextLong(1, organizations + 1);
+	}
+
+	public static long productCount(int rows) {
+		return Math.max(rows / REVIEWS_PER_PRODUCT, 1);
+	}
+
+	public static long clothingCount(int rows) {
+		return Math.max(rows / CLOTHING_RATIO, 1);
+	}
+
+	/**
+	 * Puebla el esquema (ya creado por las migraciones) con el catálogo de prueba. También
+	 * lo usa {@link LoadTestRunner}.
+	 */
+	public static void seed(JdbcTemplate jdbc, int rows) {
+		long products = productCount(rows);
+		long clothingItems = clothingCount(rows);
+		insert(jdbc, "insert into category_entity (id, name, description) values (?, ?, ?)", CATEGORIES,
+				i -> new Object[] { i, "Categoría " + i, "Descripción de la categoría " + i });
+		insert(jdbc, "insert into brand_entity (id, name) values (?, ?)", BRANDS,
+				i -> new Object[] { i, "Marca " + i });
+		insert(jdbc, "insert into user_entity (id, name, email) values (?, ?, ?)", 1000,
+				i -> new Object[] { i, "Usuario " + i, "usuario" + i + "@correo.com" });
+		insert(jdbc, "insert into product_entity (id, name, description, price, category_id) values (?, ?, ?, ?, ?)",
+				products, i -> new Object[] { i, "Producto " + i, "Descripción del producto " + i, 1000.0 + i,
+						1 + i % CATEGORIES });
+		insert(jdbc, "insert into review_entity (id, rating, comment, product_id, user_id) values (?, ?, ?, ?, ?)",
+				products * REVIEWS_PER_PRODUCT, i -> new Object[] { i, (int) (1 + i % 5), "Comentario " + i,
+						1 + (i - 1) / REVIEWS_PER_PRODUCT, 1 + i % 1000 });
+		jdbc.update("update product_entity p set (rating_count, rating_sum, rating_average, rating1count, rating2count, "
+				+ "rating3count, rating4count, rating5count) = (select count(*), coalesce(sum(r.rating), 0), avg(r.rating * 1.0), "
+				+ "count(case when r.rating = 1 then 1 end), count(case when r.rating = 2 then 1 end), "
+				+ "count(case when r.rating = 3 then 1 end), count(case when r.rating = 4 then 1 end), "
+				+ "count(case when r.rating = 5 then 1 end) from review_entity r where r.product_id = p.id)");
+		Date releaseDate = Date.valueOf("2024-01-01");
+		insert(jdbc, "insert into designer_entity (id, name, birth_date, description, image) values (?, ?, ?, ?, ?)",
+				clothingItems, i -> new Object[] { i, "Diseñador " + i, releaseDate, "Descripción del diseñador " + i,
+						"https://imagenes/disenadores/" + i });
+		insert(jdbc, "insert into organization_entity (id, name, tipo) values (?, ?, ?)", clothingItems,
+				i -> new Object[] { i, "Organización " + i, (int) (i % 3) });
+		insert(jdbc, "insert into prize_entity (id, name, description, premiation_date, designer_id, organization_id) "
+				+ "values (?, ?, ?, ?, ?, ?)", clothingItems, i -> new Object[] { i, "Premio " + i,
+						"Descripción del premio " + i, releaseDate, i, i });
+		insert(jdbc,
+				"insert into clothing_entity (id, name, sku, image, release_date, description, brand_id) values (?, ?, ?, ?, ?, ?, ?)",
+				clothingItems, i -> new Object[] { i, "Prenda " + i, "SKU" + i, "https://imagenes/" + i,
+						releaseDate, "Descripción de la prenda " + i, 1 + i % BRANDS });
+		// Los ids se insertaron explícitamente: las secuencias deben continuar después de ellos.
+		// Hibernate toma el valor de la secuencia como el final de un bloque de ALLOCATION_SIZE.
+		restartSequence(jdbc, "category_entity", CATEGORIES);
+		restartSequence(jdbc, "brand_entity", BRANDS);
+		restartSequence(jdbc, "user_entity", 1000);
+		restartSequence(jdbc, "product_entity", products);
+		restartSequence(jdbc, "review_entity", products * REVIEWS_PER_PRODUCT);
+		restartSequence(jdbc, "clothing_entity", clothingItems);
+		restartSequence(jdbc, "designer_entity", clothingItems);
+		restartSequence(jdbc, "organization_entity", clothingItems);
+		restartSequence(jdbc, "prize_entity", clothingItems);
+	}
+
+	private static void restartSequence(JdbcTemplate jdbc, String table, long lastId) {
+		jdbc.execute("alter sequence " + table + "_seq restart with " + (lastId + ALLOCATION_SIZE));
+	}
+
+	private static void insert(JdbcTemplate jdbc, String sql, long count, Row row) {
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (long i = 1; i <= count; i++) {
+			batch.add(row.values(i));
+			if (batch.size() == BATCH_SIZE) {
+				jdbc.batchUpdate(sql, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbc.batchUpdate(sql, batch);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Row {
+		Object[] values(long i);
+	}
+}
@@ -0,0 +1,104 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.mappers.BrandMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.DesignerMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ReferenceMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ReviewMapperImpl;
+
+/**
+ * Bytes en la red y CPU de serialización de una página de 1.000 elementos de
+ * GET /clothing y GET /productos?view=detail, en JSON, Smile y CBOR, sin
+ * comprimir y con gzip (nivel por defecto, el mismo que usa Tomcat).
+ *
+ * El tiempo por operación es la CPU de serializar (y comprimir) la página; el
+ * tamaño de cada combinación se imprime al preparar el benchmark:
+ *
+ * <pre>
+ * -Djmh.args="SerializationBenchmark"
+ * -Djmh.args="SerializationBenchmark -p format=json,cbor -p compression=gzip"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+	private static final int PAGE_SIZE = 1000;
+
+	@Param({ "json", "smile", "cbor" })
+	String format;
+
+	@Param({ "none", "gzip" })
+	String compression;
+
+	private ObjectMapper objectMapper;
+	private List<ClothingDetailDTO> clothingPage;
+	private List<ProductDTO> productPage;
+
+	@Setup
+	public void setup() throws IOException {
+		// Misma configuración de fechas que el ObjectMapper de Spring Boot
+		Jackson2ObjectMapperBuilder builder = switch (format) {
+		case "smile" -> Jackson2ObjectMapperBuilder.smile();
+		case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+		default -> Jackson2ObjectMapperBuilder.json();
+		};
+		objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+		ReviewMapperImpl reviewMapper = new ReviewMapperImpl(new ReferenceMapperImpl());
+		clothingPage = new ClothingMapperImpl(new BrandMapperImpl(), new DesignerMapperImpl(), reviewMapper)
+				.toDetailDTOs(CatalogFixture.clothingItems(PAGE_SIZE));
+		productPage = new ProductMapperImpl(reviewMapper).toDTOs(CatalogFixture.products(PAGE_SIZE));
+
+		System.out.printf("%n  bytes por página (%s, %s): prendas %,d, productos %,d%n", format, compression,
+				clothing().length, products().length);
+	}
+
+	@Benchmark
+	public byte[] clothing() throws IOException {
+		return write(clothingPage);
+	}
+
+	@Benchmark
+	public byte[] products() throws IOException {
+		return write(productPage);
+	}
+
+	private byte[] write(Object page) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+		try (OutputStream output = "gzip".equals(compression) ? new GZIPOutputStream(bytes) : bytes) {
+			objectMapper.writeValue(output, page);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,124 @@
+package co.edu.uniandes.dse.bookstore.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.dto.ReviewDTO;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapper;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapper;
+import co.edu.uniandes.dse.bookstore.mappers.ReviewMapper;
+import co.edu.uniandes.dse.bookstore.services.ClothingService;
+import co.edu.uniandes.dse.bookstore.services.ProductService;
+import co.edu.uniandes.dse.bookstore.services.ReviewService;
+
+/**
+ * Caminos calientes de lectura tal como los ejecutan los controladores:
+ * servicio más mapeo a DTO, dentro de una transacción de solo lectura que hace
+ * las veces de open-in-view. Reporta throughput y la distribución de latencia
+ * (p99 en el modo SampleTime); la tasa de asignación por operación se obtiene
+ * con el perfilador gc, que {@link BenchmarkRunner} activa por defecto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ServiceBenchmark {
+
+	private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, Sort.by("id"));
+
+	private SeededDatabase db;
+	private TransactionTemplate readOnly;
+	private ClothingService clothingService;
+	private ReviewService reviewService;
+	private ProductService productService;
+	private ClothingMapper clothingMapper;
+	private ReviewMapper reviewMapper;
+	private ProductMapper productMapper;
+
+	@Setup
+	public void setup(SeededDatabase db) {
+		this.db = db;
+		readOnly = db.readOnly;
+		clothingService = db.getBean(ClothingService.class);
+		reviewService = db.getBean(ReviewService.class);
+		productService = db.getBean(ProductService.class);
+		clothingMapper = db.getBean(ClothingMapper.class);
+		reviewMapper = db.getBean(ReviewMapper.class);
+		productMapper = db.getBean(ProductMapper.class);
+	}
+
+	@Benchmark
+	public List<ClothingDetailDTO> clothingItems() {
+		return readOnly.execute(status -> clothingMapper.toDetailDTOs(clothingService.getClothingItems()));
+	}
+
+	@Benchmark
+	public List<ReviewDTO> productReviews() {
+		long productId = db.randomProductId();
+		return readOnly.execute(status -> {
+			try {
+				return reviewMapper.toDTOs(reviewService.getReviews(productId));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	@Benchmark
+	public List<ReviewDTO> productReviewsByRating() {
+		long productId = db.randomProductId();
+		return readOnly.execute(status -> {
+			try {
+				return reviewMapper.toDTOs(reviewService
+						.getReviews(productId, ReviewService.ORDER_RATING, 1, 5, null, 5).getItems());
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	@Benchmark
+	public Page<ProductDTO> productsFirstPage() {
+		return readOnly.execute(status -> productService.obtenerProductos(FIRST_PAGE).map(productMapper::toDTO));
+	}
+
+	@Benchmark
+	public Page<ProductDTO> productsRandomPage() {
+		int page = (int) ((db.randomProductId() - 1) / FIRST_PAGE.getPageSize());
+		return readOnly.execute(status -> productService
+				.obtenerProductos(PageRequest.of(page, FIRST_PAGE.getPageSize(), FIRST_PAGE.getSort()))
+				.map(productMapper::toDTO));
+	}
+
+	@Benchmark
+	public List<ProductDTO> productsAfterCursor() {
+		long after = db.randomProductId();
+		return readOnly.execute(status -> productMapper
+				.toDTOs(productService.obtenerProductosDespuesDe(after, FIRST_PAGE.getPageSize())));
+	}
+
+	@Benchmark
+	public Page<ProductSummaryDTO> productSummariesFirstPage() {
+		return productService.obtenerResumenProductos(FIRST_PAGE);
+	}
+}
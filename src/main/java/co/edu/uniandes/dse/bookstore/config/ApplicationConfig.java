@@ -23,20 +23,16 @@ SOFTWARE.
 */
 package co.edu.uniandes.dse.bookstore.config;
 
-import org.modelmapper.ModelMapper;
-
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableSpringDataWebSupport(pageSerializationMode = PageSerializationMode.VIA_DTO)
 public class ApplicationConfig {
-    @Bean
-    ModelMapper modelMapper() {
-		return new ModelMapper();
-	}
-
     @Bean
     WebMvcConfigurer corsConfigurer() {
 		return new WebMvcConfigurer() {
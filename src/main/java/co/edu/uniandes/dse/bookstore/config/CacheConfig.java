@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.bookstore.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caché en memoria (Caffeine) para las consultas por id del catálogo. El tamaño,
+ * el TTL y el registro de estadísticas se configuran en application.properties
+ * (spring.cache.caffeine.spec); los contadores de aciertos, fallos y desalojos
+ * se publican en /actuator/metrics/cache.*.
+ *
+ * El interceptor de caché se ubica por fuera del transaccional para que las
+ * invalidaciones ocurran después del commit y un acierto no abra transacción.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+	public static final String PRODUCTOS = "productos";
+	public static final String CLOTHING = "clothing";
+	public static final String ORGANIZATIONS = "organizations";
+}
@@ -0,0 +1,108 @@
+package co.edu.uniandes.dse.bookstore.config;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Hace efectivo el tamaño mínimo de compresión (server.compression.min-response-size)
+ * en las respuestas de Spring MVC. Los convertidores hacen flush al terminar el
+ * cuerpo, lo que envía la respuesta sin Content-Length, y Tomcat comprime toda
+ * respuesta de longitud desconocida aunque sea de pocos bytes.
+ *
+ * El filtro ignora los flush mientras lo escrito no supere el umbral. Un cuerpo
+ * pequeño queda completo en el búfer de Tomcat, que al cerrar conoce su longitud
+ * y lo envía sin comprimir; los cuerpos mayores y los que se escriben por partes
+ * (NDJSON) se envían igual que antes.
+ */
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+	private final long threshold;
+
+	public CompressionThresholdFilter(long threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		chain.doFilter(request, new ThresholdResponse(response));
+	}
+
+	private final class ThresholdResponse extends HttpServletResponseWrapper {
+
+		private ServletOutputStream output;
+
+		private long written;
+
+		ThresholdResponse(HttpServletResponse response) {
+			super(response);
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (output == null) {
+				output = new ThresholdOutputStream(super.getOutputStream());
+			}
+			return output;
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (written > threshold) {
+				super.flushBuffer();
+			}
+		}
+
+		private final class ThresholdOutputStream extends ServletOutputStream {
+
+			private final ServletOutputStream delegate;
+
+			ThresholdOutputStream(ServletOutputStream delegate) {
+				this.delegate = delegate;
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				delegate.write(b);
+				written++;
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				delegate.write(b, off, len);
+				written += len;
+			}
+
+			@Override
+			public void flush() throws IOException {
+				if (written > threshold) {
+					delegate.flush();
+				}
+			}
+
+			@Override
+			public void close() throws IOException {
+				delegate.close();
+			}
+
+			@Override
+			public boolean isReady() {
+				return delegate.isReady();
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				delegate.setWriteListener(writeListener);
+			}
+		}
+	}
+}
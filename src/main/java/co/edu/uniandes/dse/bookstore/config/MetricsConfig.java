@@ -0,0 +1,61 @@
+package co.edu.uniandes.dse.bookstore.config;
+
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import co.edu.uniandes.dse.bookstore.metrics.HibernateRequestMetrics;
+
+/**
+ * Conecta {@link HibernateRequestMetrics} con Hibernate (inspector de sentencias
+ * y listener de carga de entidades) y con Spring MVC (interceptor por petición).
+ * Las métricas se publican en /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	HibernatePropertiesCustomizer requestMetricsHibernateCustomizer(HibernateRequestMetrics metrics) {
+		Integrator integrator = new Integrator() {
+			@Override
+			public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+					SessionFactoryImplementor sessionFactory) {
+				sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+						.appendListeners(EventType.POST_LOAD, metrics);
+			}
+
+			@Override
+			public void disintegrate(SessionFactoryImplementor sessionFactory,
+					SessionFactoryServiceRegistry serviceRegistry) {
+				// Nada que liberar
+			}
+		};
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, metrics);
+			properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(integrator));
+		};
+	}
+
+	@Bean
+	WebMvcConfigurer requestMetricsInterceptor(HibernateRequestMetrics metrics) {
+		return new WebMvcConfigurer() {
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addInterceptor(metrics);
+			}
+		};
+	}
+}
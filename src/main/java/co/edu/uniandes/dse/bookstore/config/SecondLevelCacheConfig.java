@@ -0,0 +1,86 @@
+package co.edu.uniandes.dse.bookstore.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import lombok.Data;
+
+/**
+ * Caché de segundo nivel de Hibernate (JCache sobre Caffeine) para los datos de
+ * referencia del catálogo: categorías, marcas, organizaciones, diseñadores y los
+ * diseñadores de cada prenda, además de las búsquedas por nombre de marcas y
+ * organizaciones.
+ *
+ * Cada región se crea con el tamaño y el TTL de
+ * {@code bookstore.hibernate-cache.regions.<región>} en application.properties.
+ * Hibernate se configura para fallar al iniciar si una región no está declarada
+ * ({@code missing_cache_strategy=fail}), de modo que ninguna crece sin límite.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheConfig.Regions.class)
+public class SecondLevelCacheConfig {
+
+	public static final String CATEGORIES = "categories";
+	public static final String BRANDS = "brands";
+	public static final String ORGANIZATIONS = "organizations";
+	public static final String DESIGNERS = "designers";
+	public static final String CLOTHING_DESIGNERS = "clothing-designers";
+	public static final String REFERENCE_QUERIES = "reference-queries";
+
+	@Bean(destroyMethod = "close")
+	CacheManager hibernateCacheManager(Regions regions) {
+		// Un administrador propio por contexto: los contextos de prueba no comparten regiones
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+				.getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+		regions.getRegions().forEach((name, region) -> {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+			if (region.getExpireAfterWrite() != null) {
+				configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+			}
+			// Hibernate ya guarda un estado desensamblado e inmutable: copiarlo en cada lectura sobra
+			configuration.setStoreByValue(false);
+			configuration.setStatisticsEnabled(true);
+			cacheManager.createCache(name, configuration);
+		});
+		return cacheManager;
+	}
+
+	@Bean
+	HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+	}
+
+	@Data
+	@ConfigurationProperties("bookstore.hibernate-cache")
+	public static class Regions {
+		private Map<String, Region> regions = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Tamaño máximo (entradas) y TTL de una región. Sin TTL las entradas solo salen
+	 * por tamaño o por invalidación.
+	 */
+	@Data
+	public static class Region {
+		private long maximumSize;
+		private Duration expireAfterWrite;
+	}
+}
@@ -0,0 +1,70 @@
+package co.edu.uniandes.dse.bookstore.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Formatos binarios de respuesta, además de JSON: CBOR (application/cbor) y
+ * Smile (application/x-jackson-smile). Se eligen con el encabezado Accept o con
+ * el parámetro {@code format=cbor|smile} (ver spring.mvc.contentnegotiation en
+ * application.properties) y aplican a todos los controladores.
+ *
+ * Los convertidores usan el mismo Jackson2ObjectMapperBuilder de Spring Boot que
+ * el de JSON, así que los tres formatos serializan los DTOs igual. Como una misma
+ * URL puede responder en varios formatos, las respuestas llevan
+ * {@code Vary: Accept} para que las cachés intermedias no los mezclen.
+ *
+ * La compresión (gzip) la hace el servidor por encima de un tamaño mínimo; ver
+ * server.compression en application.properties y {@link CompressionThresholdFilter}.
+ */
+@Configuration
+public class SerializationConfig {
+
+	@Bean
+	MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	@Bean
+	MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+	CompressionThresholdFilter compressionThresholdFilter(ServerProperties serverProperties) {
+		return new CompressionThresholdFilter(serverProperties.getCompression().getMinResponseSize().toBytes());
+	}
+
+	@Bean
+	WebMvcConfigurer varyAcceptConfigurer() {
+		return new WebMvcConfigurer() {
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addInterceptor(new HandlerInterceptor() {
+					@Override
+					public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+							Object handler) {
+						response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+						return true;
+					}
+				});
+			}
+		};
+	}
+}
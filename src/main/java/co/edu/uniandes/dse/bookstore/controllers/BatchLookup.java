@@ -0,0 +1,53 @@
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import co.edu.uniandes.dse.bookstore.dto.BatchResultDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * Consultas por varios ids ({@code ?ids=1,2,3}): los servicios resuelven todos
+ * los ids con una consulta IN y aquí se ordena el resultado como se pidió y se
+ * reportan los ids que no existen, sin fallar el lote completo.
+ */
+final class BatchLookup {
+
+	static final int MAXIMO_IDS = 100;
+
+	private BatchLookup() {
+	}
+
+	/**
+	 * @return los ids pedidos sin repetir, en su orden.
+	 * @throws IllegalOperationException si se piden más de {@value #MAXIMO_IDS}.
+	 */
+	static List<Long> validar(List<Long> ids) throws IllegalOperationException {
+		List<Long> distintos = new ArrayList<>(new LinkedHashSet<>(ids));
+		if (distintos.size() > MAXIMO_IDS) {
+			throw new IllegalOperationException(ErrorMessage.TOO_MANY_IDS);
+		}
+		return distintos;
+	}
+
+	static <T> BatchResultDTO<T> resultado(List<Long> ids, List<T> encontrados, Function<T, Long> id) {
+		Map<Long, T> porId = new HashMap<>();
+		encontrados.forEach(elemento -> porId.put(id.apply(elemento), elemento));
+		List<T> items = new ArrayList<>(encontrados.size());
+		List<Long> faltantes = new ArrayList<>();
+		for (Long pedido : ids) {
+			T elemento = porId.get(pedido);
+			if (elemento != null) {
+				items.add(elemento);
+			} else {
+				faltantes.add(pedido);
+			}
+		}
+		return new BatchResultDTO<>(items, faltantes);
+	}
+}
@@ -0,0 +1,53 @@
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import co.edu.uniandes.dse.bookstore.dto.CartDTO;
+import co.edu.uniandes.dse.bookstore.dto.CartItemDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.CartMapper;
+import co.edu.uniandes.dse.bookstore.services.CartService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/usuarios/{usuarioId}/carrito")
+public class CartController {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartMapper cartMapper;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public CartDTO obtenerCarrito(@PathVariable Long usuarioId) throws EntityNotFoundException {
+        return cartMapper.toDTO(cartService.obtenerCarrito(usuarioId));
+    }
+
+    @PostMapping("/productos")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CartItemDTO agregarProducto(@PathVariable Long usuarioId, @RequestBody CartItemDTO itemDTO)
+            throws EntityNotFoundException, IllegalOperationException {
+        if (itemDTO.getProduct() == null || itemDTO.getProduct().getId() == null) {
+            throw new IllegalOperationException("Debe indicar el producto");
+        }
+        return cartMapper.toDTO(
+                cartService.agregarProducto(usuarioId, itemDTO.getProduct().getId(), itemDTO.getQuantity()));
+    }
+
+    @PutMapping("/productos/{productoId}")
+    @ResponseStatus(HttpStatus.OK)
+    public CartItemDTO cambiarCantidad(@PathVariable Long usuarioId, @PathVariable Long productoId,
+            @RequestBody CartItemDTO itemDTO) throws EntityNotFoundException, IllegalOperationException {
+        return cartMapper.toDTO(cartService.cambiarCantidad(usuarioId, productoId, itemDTO.getQuantity()));
+    }
+
+    @DeleteMapping("/productos/{productoId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void eliminarProducto(@PathVariable Long usuarioId, @PathVariable Long productoId)
+            throws EntityNotFoundException {
+        cartService.eliminarProducto(usuarioId, productoId);
+    }
+}
@@ -25,10 +25,11 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -36,14 +37,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.bookstore.dto.BatchResultDTO;
 import co.edu.uniandes.dse.bookstore.dto.ClothingDTO;
 import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
 import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.ClothingMapper;
 import co.edu.uniandes.dse.bookstore.services.ClothingService;
 
 /**
@@ -55,24 +65,66 @@ import co.edu.uniandes.dse.bookstore.services.ClothingService;
 @RequestMapping("/clothing")
 public class ClothingController {
 
+	private static final int EXPORT_BATCH_SIZE = 500;
+
 	@Autowired
 	private ClothingService clothingService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private ClothingMapper clothingMapper;
+
+	@Autowired
+	private ObjectMapper objectMapper;
 
 	/**
 	 * Busca y devuelve todas las prendas que existen en la aplicacion.
 	 *
+	 * Responde 304 sin consultar las prendas si el cliente ya tiene la versión
+	 * actual del conjunto.
+	 *
+	 * @param request La petición, con sus encabezados condicionales
 	 * @return JSONArray {@link ClothingDetailDTO} - Las prendas encontradas en la
 	 *         aplicación. Si no hay ninguna retorna una lista vacía.
 	 */
 	@GetMapping
-	@ResponseStatus(code = HttpStatus.OK)
-	public List<ClothingDetailDTO> findAll() {
+	public ResponseEntity<List<ClothingDetailDTO>> findAll(WebRequest request) {
+		VersionDTO version = clothingService.getClothingItemsVersion();
+		if (ConditionalGet.noModificado(request, version))
+			return null;
 		List<ClothingEntity> clothingItems = clothingService.getClothingItems();
-		return modelMapper.map(clothingItems, new TypeToken<List<ClothingDetailDTO>>() {
-		}.getType());
+		return ConditionalGet.respuesta(version, clothingMapper.toDetailDTOs(clothingItems));
+	}
+
+	/**
+	 * Busca varias prendas en una sola petición.
+	 *
+	 * @param ids Identificadores de las prendas ({@code ?ids=1,2,3}), máximo 100.
+	 * @return JSON {@link BatchResultDTO} - Las prendas encontradas, en el orden
+	 *         pedido, y los ids que no existen.
+	 */
+	@GetMapping(params = "ids")
+	@ResponseStatus(code = HttpStatus.OK)
+	public BatchResultDTO<ClothingDetailDTO> findByIds(@RequestParam List<Long> ids)
+			throws IllegalOperationException {
+		List<Long> requested = BatchLookup.validar(ids);
+		List<ClothingEntity> clothingItems = clothingService.getClothingItems(requested);
+		return BatchLookup.resultado(requested, clothingMapper.toDetailDTOs(clothingItems), ClothingDetailDTO::getId);
+	}
+
+	/**
+	 * Exporta todas las prendas en NDJSON, escribiendo a medida que se leen de la
+	 * base de datos.
+	 *
+	 * @return Un {@link ClothingDTO} por línea, con su marca.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export() {
+		// El tipo se declara explícitamente: sin él Tomcat no comprime la respuesta
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(output -> {
+			NdjsonWriter writer = new NdjsonWriter(objectMapper, output);
+			clothingService.forEachClothingBatch(EXPORT_BATCH_SIZE,
+					batch -> writer.escribir(batch.stream().map(clothingMapper::toDTO).toList()));
+		});
 	}
 
 	/**
@@ -80,13 +132,19 @@ public class ClothingController {
 	 *
 	 * @param id Identificador de la prenda que se esta buscando. Este debe ser una
 	 *           cadena de dígitos.
-	 * @return JSON {@link ClothingDetailDTO} - La prenda buscada
+	 * @param request La petición, con sus encabezados condicionales
+	 * @return JSON {@link ClothingDetailDTO} - La prenda buscada, o 304 sin cuerpo
+	 *         si el cliente ya tiene su versión actual
 	 */
 	@GetMapping(value = "/{id}")
-	@ResponseStatus(code = HttpStatus.OK)
-	public ClothingDetailDTO findOne(@PathVariable Long id) throws EntityNotFoundException {
+	public ResponseEntity<ClothingDetailDTO> findOne(@PathVariable Long id, WebRequest request)
+			throws EntityNotFoundException {
+		if (ConditionalGet.noModificado(request, clothingService.getClothingVersion(id)))
+			return null;
+		// La prenda puede venir de la caché: el ETag se toma de ella y no de la consulta previa
 		ClothingEntity clothingEntity = clothingService.getClothing(id);
-		return modelMapper.map(clothingEntity, ClothingDetailDTO.class);
+		return ConditionalGet.respuesta(new VersionDTO(clothingEntity.getVersion(), clothingEntity.getUpdatedAt()),
+				clothingMapper.toDetailDTO(clothingEntity));
 	}
 
 	/**
@@ -101,8 +159,8 @@ public class ClothingController {
 	@PostMapping
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public ClothingDTO create(@RequestBody ClothingDTO clothingDTO) throws IllegalOperationException, EntityNotFoundException {
-		ClothingEntity clothingEntity = clothingService.createClothing(modelMapper.map(clothingDTO, ClothingEntity.class));
-		return modelMapper.map(clothingEntity, ClothingDTO.class);
+		ClothingEntity clothingEntity = clothingService.createClothing(clothingMapper.toEntity(clothingDTO));
+		return clothingMapper.toDTO(clothingEntity);
 	}
 
 	/**
@@ -116,10 +174,13 @@ public class ClothingController {
 	 */
 	@PutMapping(value = "/{id}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public ClothingDTO update(@PathVariable Long id, @RequestBody ClothingDTO clothingDTO)
+	public ClothingDTO update(@PathVariable Long id, @RequestBody ClothingDTO clothingDTO,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
 			throws EntityNotFoundException, IllegalOperationException {
-		ClothingEntity clothingEntity = clothingService.updateClothing(id, modelMapper.map(clothingDTO, ClothingEntity.class));
-		return modelMapper.map(clothingEntity, ClothingDTO.class);
+		ClothingEntity clothing = clothingMapper.toEntity(clothingDTO);
+		clothing.setVersion(ConditionalGet.versionEsperada(ifMatch));
+		ClothingEntity clothingEntity = clothingService.updateClothing(id, clothing);
+		return clothingMapper.toDTO(clothingEntity);
 	}
 
 	/**
@@ -0,0 +1,84 @@
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+
+/**
+ * GET condicional a partir de la versión de un recurso o de una colección. La
+ * versión se consulta antes de cargar el recurso: si el cliente ya tiene esa
+ * versión (If-None-Match o If-Modified-Since) se responde 304 sin cargar
+ * asociaciones ni mapear DTOs.
+ *
+ * El ETag combina el número de versión con la fecha de modificación en
+ * microsegundos; cada URL (incluida la vista pedida) es un recurso distinto para
+ * las cachés, así que no hace falta incluirla. Es débil (W/) porque los bytes de
+ * una misma versión cambian con el formato (JSON, CBOR, Smile) y la compresión;
+ * además Tomcat no comprime respuestas con ETag fuerte.
+ */
+final class ConditionalGet {
+
+	private ConditionalGet() {
+	}
+
+	/**
+	 * @return si el cliente ya tiene esta versión; en ese caso la respuesta 304 ya
+	 *         quedó preparada y el controlador debe retornar {@code null}.
+	 */
+	static boolean noModificado(WebRequest request, VersionDTO version) {
+		if (version.getUpdatedAt() == null) {
+			return request.checkNotModified(etag(version));
+		}
+		return request.checkNotModified(etag(version), version.getUpdatedAt().toEpochMilli());
+	}
+
+	/**
+	 * Respuesta 200 con el ETag y el Last-Modified de la versión del cuerpo.
+	 */
+	static <T> ResponseEntity<T> respuesta(VersionDTO version, T cuerpo) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag(version));
+		if (version.getUpdatedAt() != null) {
+			builder.lastModified(version.getUpdatedAt());
+		}
+		return builder.body(cuerpo);
+	}
+
+	/**
+	 * Versión que el cliente leyó, tomada del ETag que envía en If-Match, para
+	 * rechazar una actualización hecha sobre datos viejos.
+	 *
+	 * @return {@code null} si no hay If-Match o es {@code *} (actualización
+	 *         incondicional)
+	 * @throws IllegalOperationException si el valor no es un ETag de este
+	 *                                   servicio
+	 */
+	static Long versionEsperada(String ifMatch) throws IllegalOperationException {
+		if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+			return null;
+		}
+		String valor = ifMatch.trim();
+		if (valor.startsWith("W/")) {
+			valor = valor.substring(2);
+		}
+		int guion = valor.indexOf('-');
+		if (!valor.startsWith("\"") || guion < 0) {
+			throw new IllegalOperationException("If-Match no corresponde a una versión del recurso");
+		}
+		try {
+			return Long.parseLong(valor.substring(1, guion));
+		} catch (NumberFormatException e) {
+			throw new IllegalOperationException("If-Match no corresponde a una versión del recurso");
+		}
+	}
+
+	private static String etag(VersionDTO version) {
+		long modificado = version.getUpdatedAt() == null ? 0
+				: ChronoUnit.MICROS.between(Instant.EPOCH, version.getUpdatedAt());
+		return "W/\"" + version.getVersion() + "-" + modificado + "\"";
+	}
+}
@@ -0,0 +1,43 @@
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Escribe elementos como NDJSON (un documento JSON por línea) directamente en
+ * la respuesta, lote por lote.
+ */
+final class NdjsonWriter {
+
+	private static final byte SEPARADOR = '\n';
+
+	private final ObjectWriter writer;
+
+	private final OutputStream salida;
+
+	NdjsonWriter(ObjectMapper objectMapper, OutputStream salida) {
+		this.writer = objectMapper.writer();
+		this.salida = salida;
+	}
+
+	/**
+	 * Escribe el lote y lo envía al cliente. Los errores de E/S (por ejemplo, el
+	 * cliente cerró la conexión) se propagan sin verificar para abortar el recorrido.
+	 */
+	void escribir(List<?> elementos) {
+		try {
+			for (Object elemento : elementos) {
+				salida.write(writer.writeValueAsBytes(elemento));
+				salida.write(SEPARADOR);
+			}
+			salida.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
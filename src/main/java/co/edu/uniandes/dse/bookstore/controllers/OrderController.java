@@ -0,0 +1,36 @@
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import co.edu.uniandes.dse.bookstore.dto.OrderDTO;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.OrderMapper;
+import co.edu.uniandes.dse.bookstore.services.OrderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/usuarios/{usuarioId}/ordenes")
+public class OrderController {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public OrderDTO crearOrden(@PathVariable Long usuarioId, @RequestBody OrderDTO orderDTO)
+            throws EntityNotFoundException, IllegalOperationException {
+        return orderMapper.toDTO(
+                orderService.crearOrden(usuarioId, orderMapper.toDetailEntities(orderDTO.getOrderDetails())));
+    }
+
+    @GetMapping("/{ordenId}")
+    @ResponseStatus(HttpStatus.OK)
+    public OrderDTO obtenerOrden(@PathVariable Long usuarioId, @PathVariable Long ordenId)
+            throws EntityNotFoundException {
+        return orderMapper.toDTO(orderService.obtenerOrden(usuarioId, ordenId));
+    }
+}
@@ -25,8 +25,6 @@ package co.edu.uniandes.dse.bookstore.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -44,6 +42,7 @@ import co.edu.uniandes.dse.bookstore.dto.OrganizationDetailDTO;
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.OrganizationMapper;
 import co.edu.uniandes.dse.bookstore.services.OrganizationService;
 
 /**
@@ -59,7 +58,7 @@ public class OrganizationController {
 	private OrganizationService organizationService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private OrganizationMapper organizationMapper;
 
 	/**
 	 * Busca y devuelve todos las organizaciones que existen en la aplicacion.
@@ -71,8 +70,7 @@ public class OrganizationController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public List<OrganizationDetailDTO> findAll() {
 		List<OrganizationEntity> organizations = organizationService.getOrganizations();
-		return modelMapper.map(organizations, new TypeToken<List<OrganizationDetailDTO>>() {
-		}.getType());
+		return organizationMapper.toDetailDTOs(organizations);
 	}
 
 	/**
@@ -86,7 +84,7 @@ public class OrganizationController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public OrganizationDetailDTO findOne(@PathVariable Long id) throws EntityNotFoundException {
 		OrganizationEntity organizationEntity = organizationService.getOrganization(id);
-		return modelMapper.map(organizationEntity, OrganizationDetailDTO.class);
+		return organizationMapper.toDetailDTO(organizationEntity);
 	}
 
 	/**
@@ -103,8 +101,8 @@ public class OrganizationController {
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public OrganizationDTO create(@RequestBody OrganizationDTO organizationDTO) throws IllegalOperationException {
 		OrganizationEntity organizationEntity = organizationService
-				.createOrganization(modelMapper.map(organizationDTO, OrganizationEntity.class));
-		return modelMapper.map(organizationEntity, OrganizationDTO.class);
+				.createOrganization(organizationMapper.toEntity(organizationDTO));
+		return organizationMapper.toDTO(organizationEntity);
 	}
 
 	/**
@@ -122,8 +120,8 @@ public class OrganizationController {
 	public OrganizationDTO update(@PathVariable Long id, @RequestBody OrganizationDTO organizationDTO)
 			throws EntityNotFoundException {
 		OrganizationEntity organizationEntity = organizationService.updateOrganization(id,
-				modelMapper.map(organizationDTO, OrganizationEntity.class));
-		return modelMapper.map(organizationEntity, OrganizationDTO.class);
+				organizationMapper.toEntity(organizationDTO));
+		return organizationMapper.toDTO(organizationEntity);
 	}
 
 	/**
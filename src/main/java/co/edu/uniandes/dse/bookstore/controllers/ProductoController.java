@@ -1,55 +1,210 @@
 package co.edu.uniandes.dse.bookstore.controllers;
 
+import co.edu.uniandes.dse.bookstore.dto.BatchResultDTO;
+import co.edu.uniandes.dse.bookstore.dto.CursorPageDTO;
+import co.edu.uniandes.dse.bookstore.dto.ImportResultDTO;
 import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterResultDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
 import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapper;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
+import co.edu.uniandes.dse.bookstore.services.ProductImportService;
 import co.edu.uniandes.dse.bookstore.services.ProductService;
-import org.modelmapper.ModelMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/productos")
 public class ProductoController {
 
+    private static final int LIMITE_MAXIMO = 100;
+    private static final String VISTA_RESUMEN = "summary";
+    private static final String VISTA_DETALLE = "detail";
+    private static final int LOTE_EXPORTACION = 500;
+
     @Autowired
     private ProductService productService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ProductImportService productImportService;
+
+    @Autowired
+    private FacetService facetService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
+    /**
+     * Las páginas del catálogo llevan como ETag la versión del catálogo completo
+     * (ver {@link ProductService#obtenerVersionCatalogo()}).
+     */
     @GetMapping
+    public ResponseEntity<Page<?>> obtenerProductos(@RequestParam(defaultValue = VISTA_RESUMEN) String view,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable, WebRequest request) {
+        VersionDTO version = productService.obtenerVersionCatalogo();
+        if (ConditionalGet.noModificado(request, version)) {
+            return null;
+        }
+        if (esDetalle(view)) {
+            return ConditionalGet.respuesta(version, productService.obtenerProductos(pageable).map(productMapper::toDTO));
+        }
+        return ConditionalGet.respuesta(version, productService.obtenerResumenProductos(pageable));
+    }
+
+    @GetMapping("/mejor-calificados")
+    public ResponseEntity<Page<ProductSummaryDTO>> obtenerProductosMejorCalificados(
+            @PageableDefault(size = 20) Pageable pageable, WebRequest request) {
+        VersionDTO version = productService.obtenerVersionCatalogo();
+        if (ConditionalGet.noModificado(request, version)) {
+            return null;
+        }
+        return ConditionalGet.respuesta(version, productService.obtenerResumenProductosPorCalificacion(pageable));
+    }
+
+    /**
+     * Filtra por color, talla, existencias, categoría y rango de precio, p. ej.
+     * {@code ?color=rojo&size=M&inStock=true&price=0-50000}, con paginación por
+     * llave ({@code after}) y el conteo de productos por valor de cada faceta.
+     */
+    @GetMapping("/filter")
     @ResponseStatus(HttpStatus.OK)
-    public List<ProductDTO> obtenerProductos() {
-        return productService.obtenerProductos().stream()
-                .map(producto -> modelMapper.map(producto, ProductDTO.class))
-                .collect(Collectors.toList());
+    public ProductFilterResultDTO filtrarProductos(ProductFilterDTO filtro,
+            @RequestParam(defaultValue = "0") Long after, @RequestParam(defaultValue = "20") int limit) {
+        return facetService.filtrar(filtro, after, Math.min(Math.max(limit, 1), LIMITE_MAXIMO));
     }
 
-    @GetMapping("/{id}")
+    /**
+     * Exporta todo el catálogo en NDJSON, en la vista de detalle. Se escribe a
+     * medida que se lee, sin construir la lista completa en memoria.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarProductos() {
+        // El tipo se declara explícitamente: sin él Tomcat no comprime la respuesta
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(salida -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, salida);
+            productService.recorrerProductos(LOTE_EXPORTACION, lote -> writer.escribir(productMapper.toDTOs(lote)));
+        });
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageDTO<?>> obtenerProductosDespuesDe(@RequestParam Long after,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = VISTA_RESUMEN) String view, WebRequest request) {
+        VersionDTO version = productService.obtenerVersionCatalogo();
+        if (ConditionalGet.noModificado(request, version)) {
+            return null;
+        }
+        int limite = Math.min(Math.max(limit, 1), LIMITE_MAXIMO);
+        // Se pide un elemento adicional para saber si existe una página siguiente sin hacer COUNT
+        if (esDetalle(view)) {
+            List<ProductDTO> productos = productMapper.toDTOs(productService.obtenerProductosDespuesDe(after, limite + 1));
+            return ConditionalGet.respuesta(version, paginaCursor(productos, limite, ProductDTO::getId));
+        }
+        return ConditionalGet.respuesta(version, paginaCursor(
+                productService.obtenerResumenProductosDespuesDe(after, limite + 1), limite, ProductSummaryDTO::getId));
+    }
+
+    /**
+     * {@code after} e {@code ids} son consultas distintas: combinadas se rechazan
+     * con 400 en lugar de dejar que Spring no sepa cuál de los dos métodos usar.
+     * Esta asociación pide ambos parámetros, así que es más específica que las
+     * otras dos y no hay ambigüedad.
+     */
+    @GetMapping(params = { "after", "ids" })
+    public void rechazarDespuesDeConIds() {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use after o ids, no ambos");
+    }
+
+    /**
+     * Varios productos en una sola consulta ({@code ?ids=1,2,3}), en el orden
+     * pedido. Los ids que no existen se reportan en {@code missing}.
+     */
+    @GetMapping(params = "ids")
     @ResponseStatus(HttpStatus.OK)
-    public ProductDTO obtenerProducto(@PathVariable Long id) throws EntityNotFoundException {
+    public BatchResultDTO<?> obtenerProductosPorIds(@RequestParam List<Long> ids,
+            @RequestParam(defaultValue = VISTA_DETALLE) String view) throws IllegalOperationException {
+        List<Long> pedidos = BatchLookup.validar(ids);
+        if (esDetalle(view)) {
+            List<ProductDTO> productos = productMapper.toDTOs(productService.obtenerProductosPorIds(pedidos));
+            return BatchLookup.resultado(pedidos, productos, ProductDTO::getId);
+        }
+        return BatchLookup.resultado(pedidos, productService.obtenerResumenProductosPorIds(pedidos),
+                ProductSummaryDTO::getId);
+    }
+
+    /**
+     * Responde 304 con solo la consulta de la versión si el cliente ya la tiene.
+     * El detalle puede venir de la caché, así que su ETag se toma del producto
+     * retornado y no de la consulta previa.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> obtenerProducto(@PathVariable Long id,
+            @RequestParam(defaultValue = VISTA_DETALLE) String view, WebRequest request) throws EntityNotFoundException {
+        VersionDTO version = productService.obtenerVersionProducto(id);
+        if (ConditionalGet.noModificado(request, version)) {
+            return null;
+        }
+        if (!esDetalle(view)) {
+            return ConditionalGet.respuesta(version, productService.obtenerResumenProducto(id));
+        }
         ProductEntity producto = productService.obtenerProducto(id);
-        return modelMapper.map(producto, ProductDTO.class);
+        return ConditionalGet.respuesta(productService.versionDe(producto), productMapper.toDTO(producto));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ProductDTO crearProducto(@RequestBody ProductDTO productDTO) {
-        ProductEntity producto = modelMapper.map(productDTO, ProductEntity.class);
+        ProductEntity producto = productMapper.toEntity(productDTO);
         ProductEntity creado = productService.crearProducto(producto);
-        return modelMapper.map(creado, ProductDTO.class);
+        return productMapper.toDTO(creado);
     }
 
+    /**
+     * Importación masiva en NDJSON (un producto por línea). Responde con el número
+     * de productos importados y los errores por línea.
+     */
+    @PostMapping(value = "/importar", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ImportResultDTO importarProductos(InputStream cuerpo) throws IOException {
+        return productImportService.importar(cuerpo);
+    }
+
+    /**
+     * Con If-Match (el ETag de un GET previo) la actualización se rechaza con 409
+     * si el producto cambió desde que el cliente lo leyó; sin él, sobrescribe.
+     */
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ProductDTO actualizarProducto(@PathVariable Long id, @RequestBody ProductDTO productDTO) throws EntityNotFoundException {
-        ProductEntity producto = modelMapper.map(productDTO, ProductEntity.class);
+    public ProductDTO actualizarProducto(@PathVariable Long id, @RequestBody ProductDTO productDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws EntityNotFoundException, IllegalOperationException {
+        ProductEntity producto = productMapper.toEntity(productDTO);
+        producto.setVersion(ConditionalGet.versionEsperada(ifMatch));
         ProductEntity actualizado = productService.actualizarProducto(id, producto);
-        return modelMapper.map(actualizado, ProductDTO.class);
+        return productMapper.toDTO(actualizado);
     }
 
     @DeleteMapping("/{id}")
@@ -57,4 +212,16 @@ public class ProductoController {
     public void eliminarProducto(@PathVariable Long id) throws EntityNotFoundException {
         productService.eliminarProducto(id);
     }
+
+    private static boolean esDetalle(String vista) {
+        return VISTA_DETALLE.equalsIgnoreCase(vista);
+    }
+
+    private static <T> CursorPageDTO<T> paginaCursor(List<T> elementos, int limite, Function<T, Long> id) {
+        if (elementos.size() <= limite) {
+            return new CursorPageDTO<>(elementos, null);
+        }
+        List<T> pagina = elementos.subList(0, limite);
+        return new CursorPageDTO<>(pagina, String.valueOf(id.apply(pagina.get(limite - 1))));
+    }
 } 
\ No newline at end of file
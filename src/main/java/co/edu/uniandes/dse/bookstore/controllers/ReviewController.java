@@ -23,10 +23,6 @@ SOFTWARE.
 */
 package co.edu.uniandes.dse.bookstore.controllers;
 
-import java.util.List;
-
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -36,13 +32,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.edu.uniandes.dse.bookstore.dto.CursorPageDTO;
 import co.edu.uniandes.dse.bookstore.dto.ReviewDTO;
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.ReviewMapper;
 import co.edu.uniandes.dse.bookstore.services.ReviewService;
 
 /**
@@ -55,11 +54,13 @@ import co.edu.uniandes.dse.bookstore.services.ReviewService;
 @RequestMapping("/clothing")
 public class ReviewController {
 
+	private static final int MAX_PAGE_SIZE = 100;
+
 	@Autowired
 	private ReviewService reviewService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private ReviewMapper reviewMapper;
 
 	/**
 	 * Crea una nueva reseña con la informacion que se recibe en el cuerpo de la
@@ -74,25 +75,39 @@ public class ReviewController {
 	@PostMapping(value = "/{clothingId}/reviews")
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public ReviewDTO createReview(@PathVariable Long clothingId, @RequestBody ReviewDTO review)
-			throws EntityNotFoundException {
-		ReviewEntity reviewEnity = modelMapper.map(review, ReviewEntity.class);
+			throws EntityNotFoundException, IllegalOperationException {
+		ReviewEntity reviewEnity = reviewMapper.toEntity(review);
 		ReviewEntity newReview = reviewService.createReview(clothingId, reviewEnity);
-		return modelMapper.map(newReview, ReviewDTO.class);
+		return reviewMapper.toDTO(newReview);
 	}
 
 	/**
-	 * Busca y devuelve todas las reseñas que existen en una prenda.
+	 * Busca y devuelve una página de las reseñas de una prenda, paginada por
+	 * cursor. Por defecto las más recientes primero; con {@code order=rating} las
+	 * mejor calificadas primero. {@code minRating} y {@code maxRating} filtran por
+	 * calificación. Para la página siguiente se envía el {@code nextCursor}
+	 * recibido, con los mismos parámetros.
 	 *
 	 * @param clothingId El ID de la prenda de la cual se buscan las reseñas
-	 * @return JSONArray {@link ReviewDTO} - Las reseñas encontradas en la prenda. Si
-	 *         no hay ninguna retorna una lista vacía.
+	 * @param order      {@code recent} o {@code rating}
+	 * @param minRating  Calificación mínima incluida
+	 * @param maxRating  Calificación máxima incluida
+	 * @param cursor     Cursor de la página anterior; se omite en la primera
+	 * @param limit      Tamaño de la página (máximo 100)
+	 * @return Página de {@link ReviewDTO} con el cursor de la siguiente, nulo si
+	 *         no hay más reseñas.
 	 */
 	@GetMapping(value = "/{clothingId}/reviews")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<ReviewDTO> getReviews(@PathVariable Long clothingId) throws EntityNotFoundException {
-		List<ReviewEntity> reviews = reviewService.getReviews(clothingId);
-		return modelMapper.map(reviews, new TypeToken<List<ReviewDTO>>() {
-		}.getType());
+	public CursorPageDTO<ReviewDTO> getReviews(@PathVariable Long clothingId,
+			@RequestParam(defaultValue = ReviewService.ORDER_RECENT) String order,
+			@RequestParam(defaultValue = "1") int minRating, @RequestParam(defaultValue = "5") int maxRating,
+			@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit)
+			throws EntityNotFoundException, IllegalOperationException {
+		int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+		CursorPageDTO<ReviewEntity> page = reviewService.getReviews(clothingId, order, minRating, maxRating, cursor,
+				pageSize);
+		return new CursorPageDTO<>(reviewMapper.toDTOs(page.getItems()), page.getNextCursor());
 	}
 
 	/**
@@ -107,7 +122,7 @@ public class ReviewController {
 	public ReviewDTO getReview(@PathVariable Long clothingId, @PathVariable Long reviewId)
 			throws EntityNotFoundException, IllegalOperationException {
 		ReviewEntity reviewEntity = reviewService.getReview(clothingId, reviewId);
-		return modelMapper.map(reviewEntity, ReviewDTO.class);
+		return reviewMapper.toDTO(reviewEntity);
 	}
 
 	/**
@@ -123,9 +138,9 @@ public class ReviewController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public ReviewDTO updateReview(@PathVariable Long clothingId, @PathVariable Long reviewId,
 			@RequestBody ReviewDTO review) throws EntityNotFoundException, IllegalOperationException {
-		ReviewEntity reviewEntity = modelMapper.map(review, ReviewEntity.class);
+		ReviewEntity reviewEntity = reviewMapper.toEntity(review);
 		ReviewEntity updatedReview = reviewService.updateReview(clothingId, reviewId, reviewEntity);
-		return modelMapper.map(updatedReview, ReviewDTO.class);
+		return reviewMapper.toDTO(updatedReview);
 	}
 
 	/**
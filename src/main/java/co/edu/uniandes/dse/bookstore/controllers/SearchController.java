@@ -0,0 +1,26 @@
+package co.edu.uniandes.dse.bookstore.controllers;
+
+import co.edu.uniandes.dse.bookstore.dto.SearchResultDTO;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Page<SearchResultDTO> buscar(@RequestParam("q") String texto,
+            @RequestParam(required = false) String type,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return searchService.buscar(texto, type, pageable);
+    }
+}
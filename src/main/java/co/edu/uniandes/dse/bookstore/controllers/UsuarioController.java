@@ -1,15 +1,16 @@
 package co.edu.uniandes.dse.bookstore.controllers;
 
+import co.edu.uniandes.dse.bookstore.dto.BatchResultDTO;
 import co.edu.uniandes.dse.bookstore.dto.UserDTO;
 import co.edu.uniandes.dse.bookstore.entities.UserEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.UserMapper;
 import co.edu.uniandes.dse.bookstore.services.UserService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/usuarios")
@@ -19,37 +20,48 @@ public class UsuarioController {
     private UserService userService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<UserDTO> obtenerUsuarios() {
-        return userService.obtenerUsuarios().stream()
-                .map(usuario -> modelMapper.map(usuario, UserDTO.class))
-                .collect(Collectors.toList());
+        return userMapper.toDTOs(userService.obtenerUsuarios());
+    }
+
+    /**
+     * Varios usuarios en una sola consulta ({@code ?ids=1,2,3}), en el orden
+     * pedido. Solo se retornan id, nombre y correo; los ids que no existen se
+     * reportan en {@code missing}.
+     */
+    @GetMapping(params = "ids")
+    @ResponseStatus(HttpStatus.OK)
+    public BatchResultDTO<UserDTO> obtenerUsuariosPorIds(@RequestParam List<Long> ids) throws IllegalOperationException {
+        List<Long> pedidos = BatchLookup.validar(ids);
+        List<UserDTO> usuarios = userMapper.toSummaryDTOs(userService.obtenerUsuariosPorIds(pedidos));
+        return BatchLookup.resultado(pedidos, usuarios, UserDTO::getId);
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public UserDTO obtenerUsuario(@PathVariable Long id) throws EntityNotFoundException {
         UserEntity usuario = userService.obtenerUsuario(id);
-        return modelMapper.map(usuario, UserDTO.class);
+        return userMapper.toDTO(usuario);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public UserDTO crearUsuario(@RequestBody UserDTO userDTO) {
-        UserEntity usuario = modelMapper.map(userDTO, UserEntity.class);
+        UserEntity usuario = userMapper.toEntity(userDTO);
         UserEntity creado = userService.crearUsuario(usuario);
-        return modelMapper.map(creado, UserDTO.class);
+        return userMapper.toDTO(creado);
     }
 
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public UserDTO actualizarUsuario(@PathVariable Long id, @RequestBody UserDTO userDTO) throws EntityNotFoundException {
-        UserEntity usuario = modelMapper.map(userDTO, UserEntity.class);
+        UserEntity usuario = userMapper.toEntity(userDTO);
         UserEntity actualizado = userService.actualizarUsuario(id, usuario);
-        return modelMapper.map(actualizado, UserDTO.class);
+        return userMapper.toDTO(actualizado);
     }
 
     @DeleteMapping("/{id}")
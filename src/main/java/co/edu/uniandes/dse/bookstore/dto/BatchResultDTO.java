@@ -0,0 +1,18 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Resultado de una consulta por varios ids: {@code items} en el orden pedido y
+ * {@code missing} con los ids que no existen.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO<T> {
+    private List<T> items;
+    private List<Long> missing;
+}
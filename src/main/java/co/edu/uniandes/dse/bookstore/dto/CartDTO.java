@@ -7,5 +7,5 @@ import java.util.List;
 public class CartDTO {
     private Long id;
     private UserDTO user;
-    private List<ProductDTO> products;
+    private List<CartItemDTO> items;
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.Data;
+
+@Data
+public class CartItemDTO {
+    private Long id;
+    private ProductDTO product;
+    private Integer quantity;
+}
@@ -0,0 +1,18 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Página de resultados obtenida con paginación por cursor. {@code nextCursor}
+ * es nulo cuando no hay más elementos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumen de una importación masiva. {@code errors} contiene como máximo los
+ * primeros errores encontrados; {@code failed} cuenta todos.
+ */
+@Data
+public class ImportResultDTO {
+    private long total;
+    private long imported;
+    private long failed;
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+}
@@ -7,6 +7,7 @@ public class OrderDetailDTO {
     private Long id;
     private OrderDTO order;
     private ProductDTO product;
+    private VariantDTO variant;
     private Integer quantity;
     private Double price;
 } 
\ No newline at end of file
@@ -9,6 +9,9 @@ public class ProductDTO {
     private String name;
     private String description;
     private Double price;
+    private Long ratingCount;
+    private Double ratingAverage;
+    private List<Long> ratingHistogram;
     private List<PhotoDTO> photos;
     private List<VideoDTO> videos;
     private List<VariantDTO> variants;
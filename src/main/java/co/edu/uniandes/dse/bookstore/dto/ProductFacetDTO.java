@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Una fila por variante (o una sola fila con la variante en null si el producto
+ * no tiene variantes) con los atributos que alimentan el índice de facetas. Se
+ * construye directamente desde la consulta (proyección).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetDTO {
+    private Long productId;
+    private Long categoryId;
+    private Double price;
+    private Long variantId;
+    private String color;
+    private String size;
+    private Integer stock;
+}
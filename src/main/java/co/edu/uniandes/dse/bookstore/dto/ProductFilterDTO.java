@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filtros de GET /productos/filter. Dentro de una misma faceta los valores se
+ * combinan con O y entre facetas con Y; color, talla y existencias se evalúan
+ * sobre una misma variante.
+ */
+@Data
+public class ProductFilterDTO {
+    private List<String> color = new ArrayList<>();
+    private List<String> size = new ArrayList<>();
+    private List<String> category = new ArrayList<>();
+    private List<String> price = new ArrayList<>();
+    private boolean inStock;
+}
@@ -0,0 +1,21 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de productos filtrados, con el total de coincidencias y el conteo por
+ * valor de cada faceta ({@code facets.color.rojo = 12}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterResultDTO {
+    private List<ProductSummaryDTO> items;
+    private String nextCursor;
+    private long total;
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,22 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Vista resumida de un producto. Se construye directamente desde la consulta
+ * (proyección), sin cargar la entidad ni sus colecciones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummaryDTO {
+    private Long id;
+    private String name;
+    private Double price;
+    private Double ratingAverage;
+    private Long ratingCount;
+    private Long categoryId;
+    private String categoryName;
+}
@@ -0,0 +1,20 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de la búsqueda en el catálogo. {@code type} es "producto" o
+ * "prenda" e indica a qué recurso corresponde {@code id}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String type;
+    private Long id;
+    private String name;
+    private String description;
+    private float score;
+}
@@ -0,0 +1,21 @@
+package co.edu.uniandes.dse.bookstore.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Versión de un recurso o de una colección, para responder peticiones
+ * condicionales sin cargar el recurso. En un recurso {@code version} es su número
+ * de versión; en una colección es el número de elementos. {@code updatedAt} es la
+ * última modificación (nula en una colección vacía).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionDTO {
+    private Long version;
+    private Instant updatedAt;
+}
@@ -29,22 +29,58 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 
-import lombok.Data;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import uk.co.jemos.podam.common.PodamExclude;
 
 /**
  * Entidad genérica de la que heredan todas las entidades. Contiene la
- * referencia al atributo id
+ * referencia al atributo id y define la identidad de todas ellas: dos entidades
+ * son iguales si son de la misma clase y tienen el mismo id, y una entidad sin
+ * persistir solo es igual a sí misma. El hashCode depende únicamente de la
+ * clase, así que no cambia cuando la entidad se persiste estando en un conjunto.
+ *
+ * Ni equals ni hashCode recorren atributos ni asociaciones, y son finales para
+ * que un proxy sin inicializar los ejecute sin ir a la base de datos. El
+ * toString de cada entidad se limita a sus atributos escalares.
  *
  * @author ISIS2603
  */
 
-@Data
+@Getter
+@Setter
+@ToString
 @MappedSuperclass
 public abstract class BaseEntity {
 
 	@PodamExclude
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
 	private Long id;
+
+	@Override
+	public final boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof BaseEntity other) || claseEfectiva(this) != claseEfectiva(other))
+			return false;
+		return getId() != null && getId().equals(other.getId());
+	}
+
+	@Override
+	public final int hashCode() {
+		return claseEfectiva(this).hashCode();
+	}
+
+	/**
+	 * Clase de la entidad, sin inicializar el proxy si lo es.
+	 */
+	private static Class<?> claseEfectiva(BaseEntity entidad) {
+		LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(entidad);
+		return lazyInitializer != null ? lazyInitializer.getPersistentClass() : entidad.getClass();
+	}
 }
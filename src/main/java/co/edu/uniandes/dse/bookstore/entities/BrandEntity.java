@@ -27,24 +27,37 @@ package co.edu.uniandes.dse.bookstore.entities;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
 
-import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import uk.co.jemos.podam.common.PodamExclude;
 
 /**
- * Clase que representa una editorial en la persistencia
+ * Clase que representa una marca en la persistencia. Se guarda en la caché de
+ * segundo nivel: se lee con cada prenda y casi no cambia.
  *
  * @author ISIS2603
  */
 
-@Data
+@Getter
+@Setter
+@ToString(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BRANDS)
 public class BrandEntity extends BaseEntity {
 
 	private String name;
 
+	@ToString.Exclude
 	@PodamExclude
 	@OneToMany(mappedBy = "brand")
 	private List<ClothingEntity> clothingItems = new ArrayList<>();
@@ -0,0 +1,39 @@
+package co.edu.uniandes.dse.bookstore.entities;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Línea del carrito: un producto y su cantidad. Cada línea es una fila propia,
+ * de modo que agregar, quitar o cambiar la cantidad de un producto solo toca esa
+ * fila. La restricción única evita dos líneas del mismo producto en un carrito.
+ */
+@Entity
+@Getter
+@Setter
+@ToString(callSuper = true)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = { "cart_id", "product_id" }))
+public class CartItemEntity extends BaseEntity {
+    @ToString.Exclude
+    @PodamExclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "cart_id")
+    private CartEntity cart;
+
+    @ToString.Exclude
+    @PodamExclude
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "product_id")
+    private ProductEntity product;
+
+    private Integer quantity;
+}
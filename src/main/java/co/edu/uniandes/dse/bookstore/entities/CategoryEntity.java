@@ -1,27 +1,37 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 
-
+/**
+ * Las categorías casi no cambian y se leen con cada producto: se guardan en la
+ * caché de segundo nivel (ver {@link SecondLevelCacheConfig}).
+ */
 @Entity
-@Data
-public class CategoryEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
+@Getter
+@Setter
+@ToString(callSuper = true)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CATEGORIES)
+public class CategoryEntity extends BaseEntity {
     private String name;
     private String description;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
     private List<ProductEntity> products;
 } 
\ No newline at end of file
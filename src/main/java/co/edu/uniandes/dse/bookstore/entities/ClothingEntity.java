@@ -24,19 +24,34 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.entities;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
-
-import lombok.Data;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import uk.co.jemos.podam.common.PodamExclude;
 
 /**
@@ -45,8 +60,11 @@ import uk.co.jemos.podam.common.PodamExclude;
  * @author ISIS2603
  */
 
-@Data
+@Getter
+@Setter
+@ToString(callSuper = true)
 @Entity
+@Table(indexes = @Index(name = "idx_clothing_updated_at", columnList = "updatedAt"))
 public class ClothingEntity extends BaseEntity {
 
 	private String name;
@@ -58,15 +76,41 @@ public class ClothingEntity extends BaseEntity {
 
 	private String description;
 
+	/*
+	 * Versión y fecha de la última modificación, publicadas como ETag y
+	 * Last-Modified.
+	 */
+	@PodamExclude
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long version;
+
+	@PodamExclude
+	@UpdateTimestamp
+	@Column(nullable = false)
+	private Instant updatedAt;
+
+	@ToString.Exclude
 	@PodamExclude
 	@ManyToOne
 	private BrandEntity brand;
 
+	/*
+	 * Las colecciones pesadas se cargan por subconsulta: si un listado las recorre
+	 * sin plan de carga, se inicializan las de todas las prendas de la consulta
+	 * original con una sola sentencia.
+	 */
+	@ToString.Exclude
 	@PodamExclude
 	@OneToMany(mappedBy = "clothing", cascade = CascadeType.PERSIST, orphanRemoval = true)
+	@Fetch(FetchMode.SUBSELECT)
 	private List<ReviewEntity> reviews = new ArrayList<>();
 
+	@ToString.Exclude
 	@PodamExclude
 	@ManyToMany
+	@Fetch(FetchMode.SUBSELECT)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CLOTHING_DESIGNERS)
 	private List<DesignerEntity> designers = new ArrayList<>();
 }
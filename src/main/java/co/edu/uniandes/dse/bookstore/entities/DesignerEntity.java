@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToMany;
@@ -36,28 +37,41 @@ import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 
 import co.edu.uniandes.dse.bookstore.podam.DateStrategy;
-import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import uk.co.jemos.podam.common.PodamExclude;
 import uk.co.jemos.podam.common.PodamStrategyValue;
 
 /**
- * Clase que representa un diseñador en la persistencia
+ * Clase que representa un diseñador en la persistencia. Se guarda en la caché de
+ * segundo nivel junto con la colección de diseñadores de cada prenda.
  *
  * @author ISIS2603
  */
 
-@Data
+@Getter
+@Setter
+@ToString(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.DESIGNERS)
 public class DesignerEntity extends BaseEntity {
 
 	@Temporal(TemporalType.DATE)
 	@PodamStrategyValue(DateStrategy.class)
 	private Date birthDate;
 
+	@ToString.Exclude
 	@PodamExclude
 	@ManyToMany(mappedBy = "designers")
 	private List<ClothingEntity> clothingItems = new ArrayList<>();
 
+	@ToString.Exclude
 	@PodamExclude
 	@OneToMany(mappedBy = "designer", fetch = FetchType.LAZY)
 	private List<PrizeEntity> prizes = new ArrayList<>();
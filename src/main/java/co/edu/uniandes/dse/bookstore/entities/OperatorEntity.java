@@ -1,28 +1,30 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 
 import java.util.List;
 
 @Entity
-@Data
-public class OperatorEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class OperatorEntity extends BaseEntity {
     private String name;
     private String email;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "operator", cascade = CascadeType.ALL)
     private List<OrderEntity> orders;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "operator", cascade = CascadeType.ALL)
     private List<ProductEntity> products;
 } 
\ No newline at end of file
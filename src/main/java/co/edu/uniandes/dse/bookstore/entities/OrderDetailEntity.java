@@ -1,29 +1,37 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 
 import jakarta.persistence.ManyToOne;
 
 @Entity
-@Data
-public class OrderDetailEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class OrderDetailEntity extends BaseEntity {
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "order_id")
     private OrderEntity order;
 
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "product_id")
     private ProductEntity product;
 
+    @ToString.Exclude
+    @PodamExclude
+    @ManyToOne
+    @JoinColumn(name = "variant_id")
+    private VariantEntity variant;
+
     private Integer quantity;
     private Double price;
 } 
\ No newline at end of file
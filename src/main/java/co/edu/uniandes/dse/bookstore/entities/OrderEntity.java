@@ -1,11 +1,11 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -13,23 +13,32 @@ import jakarta.persistence.OneToMany;
 import java.util.Date;
 import java.util.List;
 
+/**
+ * Los ids de la orden y sus detalles se asignan por secuencia (en bloques) para
+ * que Hibernate pueda agrupar los INSERT en lotes JDBC; con IDENTITY cada fila
+ * requiere su propio viaje a la base de datos.
+ */
 @Entity
-@Data
-public class OrderEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class OrderEntity extends BaseEntity {
     private Date orderDate;
     private String status;
 
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "user_id")
     private UserEntity user;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderDetailEntity> orderDetails;
 
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "operator_id")
     private OperatorEntity operator;
@@ -1,29 +1,42 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.OneToOne;
 
-import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import uk.co.jemos.podam.common.PodamExclude;
 
 /**
- * Clase que representa una organizacion en la persistencia
+ * Clase que representa una organizacion en la persistencia. Se guarda en la
+ * caché de segundo nivel.
  *
  * @author 
  */
 
-@Data
+@Getter
+@Setter
+@ToString(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ORGANIZATIONS)
 public class OrganizationEntity extends BaseEntity {
 
-	enum TIPO_ORGANIZACION {
+	public enum TIPO_ORGANIZACION {
 		PRIVADA, PUBLICA, FUNDACION
 	}
 
 	private String name;
 	private TIPO_ORGANIZACION tipo;
 
+	@ToString.Exclude
 	@PodamExclude
 	@OneToOne(mappedBy = "organization", fetch = FetchType.LAZY)
 	private PrizeEntity prize;
@@ -27,12 +27,15 @@ package co.edu.uniandes.dse.bookstore.entities;
 import java.util.Date;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import uk.co.jemos.podam.common.PodamExclude;
 
 /**
@@ -41,20 +44,25 @@ import uk.co.jemos.podam.common.PodamExclude;
  * @author ISIS2603
  */
 
-@Data
+@Getter
+@Setter
+@ToString(callSuper = true)
 @Entity
 public class PrizeEntity extends BaseEntity {
 
 	@Temporal(TemporalType.DATE)
 	private Date premiationDate;
 
+	// Ninguna vista del premio incluye al diseñador
+	@ToString.Exclude
 	@PodamExclude
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private DesignerEntity designer;
 
 	private String name;
 	private String description;
 
+	@ToString.Exclude
 	@PodamExclude
 	@OneToOne
 	private OrganizationEntity organization;
@@ -1,45 +1,154 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Data
-public class ProductEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
+@Table(indexes = {
+        @Index(name = "idx_product_rating", columnList = "ratingAverage, ratingCount"),
+        @Index(name = "idx_product_updated_at", columnList = "updatedAt") })
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class ProductEntity extends BaseEntity {
     private String name;
     private String description;
     private Double price;
 
+    /*
+     * Versión y fecha de la última modificación, publicadas como ETag y
+     * Last-Modified. Las actualizaciones masivas de ProductRepository (reseñas)
+     * también las avanzan; el stock avanza la fecha de las variantes, que cuenta
+     * como modificación del producto (ver ProductRepository#findVersionById).
+     */
+    @PodamExclude
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @PodamExclude
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    /*
+     * Agregados de las reseñas. Solo los modifica ReviewRepository con
+     * actualizaciones atómicas; el promedio se guarda para poder ordenar e
+     * indexar por él.
+     */
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @PodamExclude
+    private Double ratingAverage;
+
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long rating1Count;
+
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long rating2Count;
+
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long rating3Count;
+
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long rating4Count;
+
+    @PodamExclude
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long rating5Count;
+
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<PhotoEntity> photos;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<VideoEntity> videos;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<VariantEntity> variants;
 
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "category_id")
     private CategoryEntity category;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<ReviewEntity> reviews;
 
+    @ToString.Exclude
+    @PodamExclude
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<OrderDetailEntity> orderDetails;
-} 
\ No newline at end of file
+
+    @ToString.Exclude
+    @PodamExclude
+    @ManyToOne
+    @JoinColumn(name = "operator_id")
+    private OperatorEntity operator;
+
+    /**
+     * Número de reseñas por calificación: la posición 0 corresponde a una estrella.
+     */
+    public List<Long> getRatingHistogram() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+
+    /**
+     * Copia los agregados de reseñas de otro producto; se usa al reemplazar un
+     * producto para no perder los valores mantenidos por las reseñas.
+     */
+    public void copyRatingsFrom(ProductEntity other) {
+        ratingCount = other.ratingCount;
+        ratingSum = other.ratingSum;
+        ratingAverage = other.ratingAverage;
+        rating1Count = other.rating1Count;
+        rating2Count = other.rating2Count;
+        rating3Count = other.rating3Count;
+        rating4Count = other.rating4Count;
+        rating5Count = other.rating5Count;
+    }
+}
@@ -24,37 +24,57 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import uk.co.jemos.podam.common.PodamExclude;
+import uk.co.jemos.podam.common.PodamIntValue;
 
 
 /**
- * Clase que representa una reseña en la persistencia
+ * Clase que representa una reseña en la persistencia. Los índices cubren las
+ * consultas por producto: por id (búsqueda y orden por recencia, ya que los ids
+ * son crecientes) y por calificación; ambos terminan en el id para que la
+ * paginación por cursor recorra el índice sin ordenar.
  *
  * @author ISIS2603
  */
 
 @Entity
-@Data
-public class ReviewEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
+@Table(indexes = {
+        @Index(name = "idx_review_product_id", columnList = "product_id, id"),
+        @Index(name = "idx_review_product_rating", columnList = "product_id, rating, id") })
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class ReviewEntity extends BaseEntity {
+    @PodamIntValue(minValue = 1, maxValue = 5)
     private Integer rating;
     private String comment;
 
-    @ManyToOne
+    @ToString.Exclude
+    @PodamExclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private ProductEntity product;
 
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "user_id")
     private UserEntity user;
+
+    // Ninguna vista de la reseña incluye la prenda; se carga solo si se recorre
+    @ToString.Exclude
+    @PodamExclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "clothing_id")
+    private ClothingEntity clothing;
 }
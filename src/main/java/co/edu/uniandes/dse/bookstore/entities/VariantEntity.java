@@ -1,26 +1,42 @@
 package co.edu.uniandes.dse.bookstore.entities;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import uk.co.jemos.podam.common.PodamExclude;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 
+import org.hibernate.annotations.UpdateTimestamp;
 
-@Entity
-@Data
-public class VariantEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+import java.time.Instant;
 
+@Entity
+@Table(indexes = @Index(name = "idx_variant_updated_at", columnList = "updatedAt"))
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class VariantEntity extends BaseEntity {
     private String color;
     private String size;
     private Integer stock;
 
+    /*
+     * Última modificación; la reserva de stock la avanza con una actualización
+     * masiva. Forma parte de la versión del producto (ver ProductRepository).
+     */
+    @PodamExclude
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @ToString.Exclude
+    @PodamExclude
     @ManyToOne
     @JoinColumn(name = "product_id")
     private ProductEntity product;
@@ -31,6 +31,11 @@ public final class ErrorMessage {
 	public static final String DESIGNER_NOT_FOUND = "The designer with the given id was not found";
 	public static final String ORGANIZATION_NOT_FOUND = "The organization with the given id was not found";
 	public static final String REVIEW_NOT_ASSOCIATED_TO_CLOTHING = "The review is not associated to the clothing item";
+	public static final String INVALID_RATING = "The rating must be an integer between 1 and 5";
+	public static final String INVALID_RATING_FILTER = "The minimum rating must not be greater than the maximum rating";
+	public static final String INVALID_REVIEW_ORDER = "Reviews can only be ordered by 'recent' or 'rating'";
+	public static final String INVALID_CURSOR = "The cursor is not valid for this listing";
+	public static final String TOO_MANY_IDS = "At most 100 ids can be requested at once";
 
 	private ErrorMessage() {
 		throw new IllegalStateException("Utility class");
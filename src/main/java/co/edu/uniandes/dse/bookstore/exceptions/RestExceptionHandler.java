@@ -1,15 +1,25 @@
 package co.edu.uniandes.dse.bookstore.exceptions;
 
+import org.hibernate.LazyInitializationException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import lombok.extern.slf4j.Slf4j;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
+@Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @ControllerAdvice
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
@@ -42,6 +52,71 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return buildResponseEntity(apiError);
     }
 
+    /**
+     * Handles CannotCreateTransactionException. With virtual threads the
+     * connection pool is the admission limit: a request that cannot get a
+     * connection within the pool timeout is rejected as temporarily unavailable.
+     *
+     * @param ex the CannotCreateTransactionException
+     * @return the ApiError object
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    protected ResponseEntity<Object> handleCannotCreateTransaction(
+    		CannotCreateTransactionException ex) {
+        ApiError apiError = new ApiError(SERVICE_UNAVAILABLE);
+        apiError.setMessage("No hay conexiones disponibles; intente de nuevo");
+        return buildResponseEntity(apiError);
+    }
+
+    /**
+     * Handles ObjectOptimisticLockingFailureException. Products and clothing items
+     * are versioned: an update that loses the race against a concurrent one is
+     * rejected instead of silently overwriting it.
+     *
+     * @param ex the ObjectOptimisticLockingFailureException
+     * @return the ApiError object
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    protected ResponseEntity<Object> handleOptimisticLockingFailure(
+    		ObjectOptimisticLockingFailureException ex) {
+        ApiError apiError = new ApiError(CONFLICT);
+        apiError.setMessage("El recurso fue modificado por otra petición; intente de nuevo");
+        return buildResponseEntity(apiError);
+    }
+
+    /**
+     * Handles DataIntegrityViolationException. A unique constraint lost to a
+     * concurrent request (for instance, from another instance of the
+     * application) is a conflict the client can retry, not a server error.
+     *
+     * @param ex the DataIntegrityViolationException
+     * @return the ApiError object
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    protected ResponseEntity<Object> handleDataIntegrityViolation(
+    		DataIntegrityViolationException ex) {
+        ApiError apiError = new ApiError(CONFLICT);
+        apiError.setMessage("La operación entra en conflicto con otra petición; intente de nuevo");
+        return buildResponseEntity(apiError);
+    }
+
+    /**
+     * Handles LazyInitializationException. Open-session-in-view is disabled, so
+     * every view must be fully loaded by its service method's fetch plan; a lazy
+     * association reached afterwards is a bug in that plan, not a client error.
+     *
+     * @param ex the LazyInitializationException
+     * @return the ApiError object
+     */
+    @ExceptionHandler(LazyInitializationException.class)
+    protected ResponseEntity<Object> handleLazyInitialization(
+    		LazyInitializationException ex) {
+        log.error("Asociación perezosa recorrida fuera de la transacción", ex);
+        ApiError apiError = new ApiError(INTERNAL_SERVER_ERROR);
+        apiError.setMessage("Error interno del servidor");
+        return buildResponseEntity(apiError);
+    }
+
     private ResponseEntity<Object> buildResponseEntity(ApiError apiError) {
         return new ResponseEntity<>(apiError, apiError.getStatus());
     }
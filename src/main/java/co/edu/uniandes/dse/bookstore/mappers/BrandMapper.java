@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import org.mapstruct.Mapper;
+
+import co.edu.uniandes.dse.bookstore.dto.BrandDTO;
+import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
+
+@Mapper(config = MappingConfig.class)
+public interface BrandMapper {
+
+	BrandDTO toDTO(BrandEntity brand);
+
+	BrandEntity toEntity(BrandDTO brand);
+}
@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.bookstore.dto.CartDTO;
+import co.edu.uniandes.dse.bookstore.dto.CartItemDTO;
+import co.edu.uniandes.dse.bookstore.entities.CartEntity;
+import co.edu.uniandes.dse.bookstore.entities.CartItemEntity;
+
+@Mapper(config = MappingConfig.class, uses = ReferenceMapper.class)
+public interface CartMapper {
+
+	@Mapping(target = "user", ignore = true)
+	CartDTO toDTO(CartEntity cart);
+
+	@Mapping(target = "product", qualifiedByName = "productSummary")
+	CartItemDTO toDTO(CartItemEntity item);
+
+	@Mapping(target = "user", ignore = true)
+	@Mapping(target = "items", ignore = true)
+	CartEntity toEntity(CartDTO cart);
+}
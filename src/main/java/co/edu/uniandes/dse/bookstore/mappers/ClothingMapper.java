@@ -0,0 +1,24 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.bookstore.dto.ClothingDTO;
+import co.edu.uniandes.dse.bookstore.dto.ClothingDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+
+@Mapper(config = MappingConfig.class, uses = { BrandMapper.class, DesignerMapper.class, ReviewMapper.class })
+public interface ClothingMapper {
+
+	ClothingDTO toDTO(ClothingEntity clothing);
+
+	ClothingDetailDTO toDetailDTO(ClothingEntity clothing);
+
+	List<ClothingDetailDTO> toDetailDTOs(List<ClothingEntity> clothingItems);
+
+	@Mapping(target = "reviews", ignore = true)
+	@Mapping(target = "designers", ignore = true)
+	ClothingEntity toEntity(ClothingDTO clothing);
+}
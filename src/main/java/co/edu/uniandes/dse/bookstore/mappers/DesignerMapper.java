@@ -0,0 +1,18 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+import co.edu.uniandes.dse.bookstore.dto.DesignerDTO;
+import co.edu.uniandes.dse.bookstore.entities.DesignerEntity;
+
+@Mapper(config = MappingConfig.class)
+public interface DesignerMapper {
+
+	DesignerDTO toDTO(DesignerEntity designer);
+
+	List<DesignerDTO> toDTOs(List<DesignerEntity> designers);
+
+	DesignerEntity toEntity(DesignerDTO designer);
+}
@@ -0,0 +1,21 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.Collection;
+
+import org.hibernate.Hibernate;
+import org.mapstruct.Condition;
+
+/**
+ * Condiciones para mapear solo lo que el servicio ya cargó: las colecciones
+ * perezosas sin inicializar se dejan en nulo en lugar de disparar una consulta.
+ */
+public final class LazyLoadingConditions {
+
+	private LazyLoadingConditions() {
+	}
+
+	@Condition
+	public static boolean isInitialized(Collection<?> collection) {
+		return Hibernate.isInitialized(collection);
+	}
+}
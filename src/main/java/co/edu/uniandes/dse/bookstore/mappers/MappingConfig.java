@@ -0,0 +1,22 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuración compartida por todos los mappers. Las implementaciones se
+ * generan en compilación como beans de Spring y reciben por constructor los
+ * mappers que usan.
+ *
+ * Las asociaciones bidireccionales no se recorren en ambos sentidos: cada
+ * mapper ignora la referencia inversa al padre y, cuando debe incluir una
+ * entidad "dueña" (usuario, producto), usa la vista superficial de
+ * {@link ReferenceMapper}. Así el grafo de DTOs nunca tiene ciclos.
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+		injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+		unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface MappingConfig {
+}
@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.bookstore.dto.OperatorDTO;
+import co.edu.uniandes.dse.bookstore.entities.OperatorEntity;
+
+/**
+ * El operador solo aparece como referencia dentro de una orden, así que sus
+ * colecciones (órdenes y productos) no se recorren.
+ */
+@Mapper(config = MappingConfig.class)
+public interface OperatorMapper {
+
+	@Mapping(target = "orders", ignore = true)
+	@Mapping(target = "products", ignore = true)
+	OperatorDTO toDTO(OperatorEntity operator);
+
+	@Mapping(target = "orders", ignore = true)
+	@Mapping(target = "products", ignore = true)
+	OperatorEntity toEntity(OperatorDTO operator);
+}
@@ -0,0 +1,34 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.bookstore.dto.OrderDTO;
+import co.edu.uniandes.dse.bookstore.dto.OrderDetailDTO;
+import co.edu.uniandes.dse.bookstore.entities.OrderDetailEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrderEntity;
+
+@Mapper(config = MappingConfig.class, uses = { ReferenceMapper.class, OperatorMapper.class, ProductMapper.class })
+public interface OrderMapper {
+
+	@Mapping(target = "user", qualifiedByName = "userSummary")
+	OrderDTO toDTO(OrderEntity order);
+
+	List<OrderDTO> toDTOs(List<OrderEntity> orders);
+
+	@Mapping(target = "user", qualifiedByName = "userReference")
+	@Mapping(target = "orderDetails", ignore = true)
+	OrderEntity toEntity(OrderDTO order);
+
+	@Mapping(target = "order", ignore = true)
+	@Mapping(target = "product", qualifiedByName = "productSummary")
+	OrderDetailDTO toDTO(OrderDetailEntity orderDetail);
+
+	@Mapping(target = "order", ignore = true)
+	@Mapping(target = "product", qualifiedByName = "productReference")
+	OrderDetailEntity toEntity(OrderDetailDTO orderDetail);
+
+	List<OrderDetailEntity> toDetailEntities(List<OrderDetailDTO> orderDetails);
+}
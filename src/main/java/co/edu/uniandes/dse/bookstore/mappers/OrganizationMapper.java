@@ -0,0 +1,30 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+import co.edu.uniandes.dse.bookstore.dto.OrganizationDTO;
+import co.edu.uniandes.dse.bookstore.dto.OrganizationDetailDTO;
+import co.edu.uniandes.dse.bookstore.dto.PrizeDTO;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+
+/**
+ * El premio de una organización referencia de vuelta a la organización; esa
+ * referencia se mapea con la vista {@link OrganizationDTO}, que no incluye el
+ * premio, y por eso el recorrido termina.
+ */
+@Mapper(config = MappingConfig.class)
+public interface OrganizationMapper {
+
+	OrganizationDTO toDTO(OrganizationEntity organization);
+
+	OrganizationDetailDTO toDetailDTO(OrganizationEntity organization);
+
+	List<OrganizationDetailDTO> toDetailDTOs(List<OrganizationEntity> organizations);
+
+	OrganizationEntity toEntity(OrganizationDTO organization);
+
+	PrizeDTO toDTO(PrizeEntity prize);
+}
@@ -0,0 +1,84 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import co.edu.uniandes.dse.bookstore.dto.CategoryDTO;
+import co.edu.uniandes.dse.bookstore.dto.PhotoDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.dto.VariantDTO;
+import co.edu.uniandes.dse.bookstore.dto.VideoDTO;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.PhotoEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import co.edu.uniandes.dse.bookstore.entities.VideoEntity;
+
+/**
+ * Mapper del agregado producto (fotos, videos, variantes y categoría). Del
+ * producto solo se mapean las colecciones que el servicio ya cargó (ver
+ * {@link LazyLoadingConditions}); los hijos no incluyen la referencia inversa
+ * al producto y la categoría no incluye sus productos.
+ */
+@Mapper(config = MappingConfig.class, uses = { ReviewMapper.class, LazyLoadingConditions.class })
+public interface ProductMapper {
+
+	@Mapping(target = "orderDetails", ignore = true)
+	ProductDTO toDTO(ProductEntity product);
+
+	List<ProductDTO> toDTOs(List<ProductEntity> products);
+
+	@Mapping(target = "reviews", ignore = true)
+	@Mapping(target = "orderDetails", ignore = true)
+	@Mapping(target = "operator", ignore = true)
+	@Mapping(target = "ratingCount", ignore = true)
+	@Mapping(target = "ratingSum", ignore = true)
+	@Mapping(target = "ratingAverage", ignore = true)
+	@Mapping(target = "ratingHistogram", ignore = true)
+	ProductEntity toEntity(ProductDTO product);
+
+	@Mapping(target = "product", ignore = true)
+	PhotoDTO toDTO(PhotoEntity photo);
+
+	@Mapping(target = "product", ignore = true)
+	PhotoEntity toEntity(PhotoDTO photo);
+
+	@Mapping(target = "product", ignore = true)
+	VideoDTO toDTO(VideoEntity video);
+
+	@Mapping(target = "product", ignore = true)
+	VideoEntity toEntity(VideoDTO video);
+
+	@Mapping(target = "product", ignore = true)
+	VariantDTO toDTO(VariantEntity variant);
+
+	@Mapping(target = "product", ignore = true)
+	VariantEntity toEntity(VariantDTO variant);
+
+	@Mapping(target = "products", ignore = true)
+	CategoryDTO toDTO(CategoryEntity category);
+
+	@Mapping(target = "products", ignore = true)
+	CategoryEntity toEntity(CategoryDTO category);
+
+	/**
+	 * Enlaza los hijos con el producto para que la cascada persista la llave
+	 * foránea.
+	 */
+	@AfterMapping
+	default void linkChildren(@MappingTarget ProductEntity product) {
+		if (product.getPhotos() != null) {
+			product.getPhotos().forEach(photo -> photo.setProduct(product));
+		}
+		if (product.getVideos() != null) {
+			product.getVideos().forEach(video -> video.setProduct(product));
+		}
+		if (product.getVariants() != null) {
+			product.getVariants().forEach(variant -> variant.setProduct(product));
+		}
+	}
+}
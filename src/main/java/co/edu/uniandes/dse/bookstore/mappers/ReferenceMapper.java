@@ -0,0 +1,45 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.dto.UserDTO;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+
+/**
+ * Vistas superficiales de usuario y producto para cuando aparecen como
+ * referencia dentro de otro recurso (reseñas, órdenes, carrito). Solo copian
+ * los atributos escalares, lo que corta los ciclos del grafo.
+ */
+@Mapper(config = MappingConfig.class)
+public interface ReferenceMapper {
+
+	@Named("userSummary")
+	@BeanMapping(ignoreByDefault = true)
+	@Mapping(target = "id")
+	@Mapping(target = "name")
+	@Mapping(target = "email")
+	UserDTO toUserSummary(UserEntity user);
+
+	@Named("userReference")
+	@BeanMapping(ignoreByDefault = true)
+	@Mapping(target = "id")
+	UserEntity toUserReference(UserDTO user);
+
+	@Named("productSummary")
+	@BeanMapping(ignoreByDefault = true)
+	@Mapping(target = "id")
+	@Mapping(target = "name")
+	@Mapping(target = "description")
+	@Mapping(target = "price")
+	ProductDTO toProductSummary(ProductEntity product);
+
+	@Named("productReference")
+	@BeanMapping(ignoreByDefault = true)
+	@Mapping(target = "id")
+	ProductEntity toProductReference(ProductDTO product);
+}
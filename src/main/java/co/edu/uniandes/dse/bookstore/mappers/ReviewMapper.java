@@ -0,0 +1,28 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.bookstore.dto.ReviewDTO;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+
+/**
+ * La reseña no incluye el producto al que pertenece (referencia inversa) y
+ * del autor solo se expone su vista resumida.
+ */
+@Mapper(config = MappingConfig.class, uses = ReferenceMapper.class)
+public interface ReviewMapper {
+
+	@Mapping(target = "product", ignore = true)
+	@Mapping(target = "user", qualifiedByName = "userSummary")
+	ReviewDTO toDTO(ReviewEntity review);
+
+	List<ReviewDTO> toDTOs(List<ReviewEntity> reviews);
+
+	@Mapping(target = "product", ignore = true)
+	@Mapping(target = "clothing", ignore = true)
+	@Mapping(target = "user", qualifiedByName = "userReference")
+	ReviewEntity toEntity(ReviewDTO review);
+}
@@ -0,0 +1,27 @@
+package co.edu.uniandes.dse.bookstore.mappers;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.bookstore.dto.UserDTO;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+
+@Mapper(config = MappingConfig.class, uses = { CartMapper.class, OrderMapper.class, ReviewMapper.class,
+		ReferenceMapper.class })
+public interface UserMapper {
+
+	UserDTO toDTO(UserEntity user);
+
+	List<UserDTO> toDTOs(List<UserEntity> users);
+
+	@IterableMapping(qualifiedByName = "userSummary")
+	List<UserDTO> toSummaryDTOs(List<UserEntity> users);
+
+	@Mapping(target = "cart", ignore = true)
+	@Mapping(target = "orders", ignore = true)
+	@Mapping(target = "reviews", ignore = true)
+	UserEntity toEntity(UserDTO user);
+}
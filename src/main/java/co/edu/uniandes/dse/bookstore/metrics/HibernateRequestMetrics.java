@@ -0,0 +1,96 @@
+package co.edu.uniandes.dse.bookstore.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cuenta las sentencias SQL y las entidades cargadas por Hibernate durante cada
+ * petición HTTP y las publica como distribuciones etiquetadas por endpoint
+ * ({@value #METRICA_SENTENCIAS} y {@value #METRICA_ENTIDADES}). Un endpoint cuyo
+ * número de sentencias crece con el tamaño de la respuesta indica un N+1.
+ *
+ * Los contadores son por hilo: el trabajo hecho en un hilo asíncrono (por
+ * ejemplo, las exportaciones con StreamingResponseBody) no se cuenta.
+ */
+@Component
+public class HibernateRequestMetrics implements AsyncHandlerInterceptor, StatementInspector, PostLoadEventListener {
+
+    public static final String METRICA_SENTENCIAS = "hibernate.request.statements";
+    public static final String METRICA_ENTIDADES = "hibernate.request.entities.loaded";
+
+    private static final ThreadLocal<Contadores> ACTUALES = new ThreadLocal<>();
+
+    @Autowired
+    private MeterRegistry registry;
+
+    // Una distribución por métrica y endpoint, registrada la primera vez
+    private final Map<Etiquetas, DistributionSummary> distribuciones = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ACTUALES.set(new Contadores());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Contadores contadores = ACTUALES.get();
+        ACTUALES.remove();
+        if (contadores == null) {
+            return;
+        }
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = patron != null ? patron.toString() : "UNKNOWN";
+        distribucion(METRICA_SENTENCIAS, request.getMethod(), uri).record(contadores.sentencias);
+        distribucion(METRICA_ENTIDADES, request.getMethod(), uri).record(contadores.entidades);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        ACTUALES.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Contadores contadores = ACTUALES.get();
+        if (contadores != null) {
+            contadores.sentencias++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        Contadores contadores = ACTUALES.get();
+        if (contadores != null) {
+            contadores.entidades++;
+        }
+    }
+
+    private DistributionSummary distribucion(String nombre, String metodo, String uri) {
+        return distribuciones.computeIfAbsent(new Etiquetas(nombre, metodo, uri), etiquetas -> DistributionSummary
+                .builder(nombre).tag("method", metodo).tag("uri", uri).register(registry));
+    }
+
+    private record Etiquetas(String nombre, String metodo, String uri) {
+    }
+
+    private static final class Contadores {
+        private long sentencias;
+        private long entidades;
+    }
+}
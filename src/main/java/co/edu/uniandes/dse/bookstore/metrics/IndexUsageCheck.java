@@ -0,0 +1,110 @@
+package co.edu.uniandes.dse.bookstore.metrics;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revisión al iniciar: pide a la base de datos el plan (EXPLAIN) de las búsquedas
+ * por columna que hace la aplicación y advierte las que recorren la tabla
+ * completa. Se revisan las búsquedas de los repositorios y una búsqueda por cada
+ * llave foránea del esquema, que es como se cargan las asociaciones.
+ *
+ * Los planes se interpretan con el formato de H2; con otra base de datos la
+ * revisión se omite.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bookstore.index-check.enabled", havingValue = "true")
+public class IndexUsageCheck {
+
+    private static final String H2 = "H2";
+    private static final String RECORRIDO_COMPLETO = ".tableScan";
+
+    /**
+     * Búsquedas de los repositorios por columnas distintas de las llaves
+     * foráneas.
+     */
+    private static final List<String> BUSQUEDAS = List.of(
+            "select id from clothing_entity where sku = ''",
+            "select id from brand_entity where name = ''",
+            "select id from organization_entity where name = ''",
+            "select id from cart_item_entity where cart_id = 0 and product_id = 0",
+            "select id from review_entity where product_id = 0 and rating between 1 and 5 and id < 0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void revisarAlIniciar() {
+        try {
+            List<String> sinIndice = revisar();
+            sinIndice.forEach(consulta -> log.warn("Consulta sin índice (recorre la tabla completa): {}", consulta));
+            log.info("Revisión de índices terminada: {} consultas sin índice", sinIndice.size());
+        } catch (DataAccessException e) {
+            log.warn("No se pudo revisar el uso de índices", e);
+        }
+    }
+
+    /**
+     * @return las consultas revisadas cuyo plan recorre la tabla completa.
+     */
+    public List<String> revisar() {
+        if (!esH2()) {
+            return List.of();
+        }
+        return consultas().stream().filter(consulta -> !usaIndice(consulta)).toList();
+    }
+
+    /**
+     * @return si el plan de la consulta busca en un índice en lugar de recorrer la
+     *         tabla completa.
+     */
+    public boolean usaIndice(String consulta) {
+        String plan = jdbcTemplate.queryForObject("explain " + consulta, String.class);
+        return plan != null && !plan.contains(RECORRIDO_COMPLETO);
+    }
+
+    private List<String> consultas() {
+        List<String> consultas = new ArrayList<>(BUSQUEDAS);
+        consultas.addAll(jdbcTemplate.execute((ConnectionCallback<List<String>>) conexion -> porLlaveForanea(
+                conexion.getMetaData(), conexion.getSchema())));
+        return consultas;
+    }
+
+    private static List<String> porLlaveForanea(DatabaseMetaData metaData, String esquema) throws SQLException {
+        List<String> tablas = new ArrayList<>();
+        try (ResultSet rs = metaData.getTables(null, esquema, "%", new String[] { "TABLE" })) {
+            while (rs.next()) {
+                tablas.add(rs.getString("TABLE_NAME"));
+            }
+        }
+        List<String> consultas = new ArrayList<>();
+        for (String tabla : tablas) {
+            try (ResultSet rs = metaData.getImportedKeys(null, esquema, tabla)) {
+                while (rs.next()) {
+                    consultas.add("select * from " + tabla + " where " + rs.getString("FKCOLUMN_NAME") + " = 0");
+                }
+            }
+        }
+        return consultas;
+    }
+
+    private boolean esH2() {
+        return H2.equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) conexion -> conexion.getMetaData().getDatabaseProductName()));
+    }
+}
@@ -0,0 +1,72 @@
+package co.edu.uniandes.dse.bookstore.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mide la duración de cada método público de controladores y servicios en el
+ * timer {@value #METRICA}, etiquetado por capa, clase, método y excepción. El
+ * histograma que usa Prometheus para los percentiles se activa en
+ * application.properties (management.metrics.distribution.*).
+ *
+ * Cada timer se registra una sola vez y se reutiliza desde un mapa por
+ * etiquetas, para no buscarlo en el registro en cada llamada.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    public static final String METRICA = "bookstore.method";
+
+    private static final String SIN_EXCEPCION = "none";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private final Map<Etiquetas, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * co.edu.uniandes.dse.bookstore.controllers..*(..))")
+    public Object medirControlador(ProceedingJoinPoint punto) throws Throwable {
+        return medir(punto, "controller");
+    }
+
+    @Around("execution(public * co.edu.uniandes.dse.bookstore.services..*(..))")
+    public Object medirServicio(ProceedingJoinPoint punto) throws Throwable {
+        return medir(punto, "service");
+    }
+
+    private Object medir(ProceedingJoinPoint punto, String capa) throws Throwable {
+        Timer.Sample muestra = Timer.start(registry);
+        String excepcion = SIN_EXCEPCION;
+        try {
+            return punto.proceed();
+        } catch (Throwable e) {
+            excepcion = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Etiquetas etiquetas = new Etiquetas(capa, punto.getSignature().getDeclaringType().getSimpleName(),
+                    punto.getSignature().getName(), excepcion);
+            muestra.stop(timers.computeIfAbsent(etiquetas, this::registrar));
+        }
+    }
+
+    private Timer registrar(Etiquetas etiquetas) {
+        return Timer.builder(METRICA)
+                .tag("layer", etiquetas.capa())
+                .tag("class", etiquetas.clase())
+                .tag("method", etiquetas.metodo())
+                .tag("exception", etiquetas.excepcion())
+                .register(registry);
+    }
+
+    private record Etiquetas(String capa, String clase, String metodo, String excepcion) {
+    }
+}
@@ -26,10 +26,14 @@ package co.edu.uniandes.dse.bookstore.repositories;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
 import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interface that persists an editorial
@@ -39,5 +43,7 @@ import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
  */
 @Repository
 public interface BrandRepository extends JpaRepository<BrandEntity, Long> {
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.REFERENCE_QUERIES) })
 	List<BrandEntity> findByName(String name);
 }
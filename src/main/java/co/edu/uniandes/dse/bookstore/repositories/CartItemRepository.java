@@ -0,0 +1,37 @@
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import co.edu.uniandes.dse.bookstore.entities.CartItemEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+/**
+ * Las modificaciones son sentencias sobre una sola línea del carrito (cart_id,
+ * product_id): ninguna reescribe el carrito completo.
+ */
+@Repository
+public interface CartItemRepository extends JpaRepository<CartItemEntity, Long> {
+
+    @EntityGraph(attributePaths = "product")
+    Optional<CartItemEntity> findByCartIdAndProductId(Long cartId, Long productId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CartItemEntity i set i.quantity = i.quantity + :cantidad "
+            + "where i.cart.id = :cartId and i.product.id = :productId")
+    int incrementarCantidad(@Param("cartId") Long cartId, @Param("productId") Long productId,
+            @Param("cantidad") int cantidad);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CartItemEntity i set i.quantity = :cantidad "
+            + "where i.cart.id = :cartId and i.product.id = :productId")
+    int cambiarCantidad(@Param("cartId") Long cartId, @Param("productId") Long productId,
+            @Param("cantidad") int cantidad);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CartItemEntity i where i.cart.id = :cartId and i.product.id = :productId")
+    int eliminar(@Param("cartId") Long cartId, @Param("productId") Long productId);
+}
@@ -0,0 +1,27 @@
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import co.edu.uniandes.dse.bookstore.entities.CartEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CartRepository extends JpaRepository<CartEntity, Long> {
+
+    Optional<CartEntity> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = { "items", "items.product" })
+    Optional<CartEntity> findWithItemsByUserId(Long userId);
+
+    String FETCH_ITEMS = "select distinct c from CartEntity c left join fetch c.items i left join fetch i.product";
+
+    @Query(FETCH_ITEMS)
+    List<CartEntity> fetchItems();
+
+    @Query(FETCH_ITEMS + " where c.user.id = :userId")
+    List<CartEntity> fetchItemsByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,9 @@
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
+}
@@ -24,12 +24,23 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
 import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interface that persists a clothing item
@@ -40,4 +51,56 @@ import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
 @Repository
 public interface ClothingRepository extends JpaRepository<ClothingEntity, Long> {
 	List<ClothingEntity> findBySku(String sku);
+
+	@EntityGraph(attributePaths = "brand")
+	List<ClothingEntity> findByIdGreaterThanOrderById(Long id, Limit limit);
+
+	@EntityGraph(attributePaths = "brand")
+	List<ClothingEntity> findByIdIn(Collection<Long> ids);
+
+	@EntityGraph(attributePaths = "brand")
+	@Query("select c from ClothingEntity c")
+	List<ClothingEntity> findAllWithBrand();
+
+	/*
+	 * Cada colección se carga con su propia consulta para evitar el producto
+	 * cartesiano, restringida igual que la consulta principal (todas las prendas o
+	 * los mismos ids) y no por una lista con un parámetro por entidad.
+	 */
+	String FETCH_DESIGNERS = "select distinct c from ClothingEntity c left join fetch c.designers";
+
+	// El carrito del autor es el lado inverso de un uno a uno y Hibernate lo carga
+	// siempre: se une para no consultarlo por cada autor
+	String FETCH_REVIEWS = "select distinct c from ClothingEntity c left join fetch c.reviews r"
+			+ " left join fetch r.user u left join fetch u.cart";
+
+	@Query(FETCH_DESIGNERS)
+	List<ClothingEntity> fetchDesigners();
+
+	@Query(FETCH_DESIGNERS + " where c.id in :ids")
+	List<ClothingEntity> fetchDesignersByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query(FETCH_REVIEWS)
+	List<ClothingEntity> fetchReviews();
+
+	@Query(FETCH_REVIEWS + " where c.id in :ids")
+	List<ClothingEntity> fetchReviewsByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query(FETCH_REVIEWS + " where c.id = :id")
+	List<ClothingEntity> fetchReviewsById(@Param("id") Long id);
+
+	@EntityGraph(attributePaths = "brand")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select c from ClothingEntity c order by c.id")
+	Stream<ClothingEntity> streamAllWithBrand();
+
+	@Query("select new co.edu.uniandes.dse.bookstore.dto.VersionDTO(c.version, c.updatedAt) from ClothingEntity c where c.id = :id")
+	Optional<VersionDTO> findVersionById(@Param("id") Long id);
+
+	/**
+	 * Versión de todas las prendas: el número de prendas y la última fecha de
+	 * modificación.
+	 */
+	@Query("select new co.edu.uniandes.dse.bookstore.dto.VersionDTO(count(c), max(c.updatedAt)) from ClothingEntity c")
+	VersionDTO findCollectionVersion();
 }
@@ -0,0 +1,26 @@
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import co.edu.uniandes.dse.bookstore.entities.OrderEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
+
+    @EntityGraph(attributePaths = { "user", "operator", "orderDetails", "orderDetails.variant", "orderDetails.product" })
+    Optional<OrderEntity> findWithDetailsByIdAndUserId(Long id, Long userId);
+
+    String FETCH_DETAILS = "select distinct o from OrderEntity o left join fetch o.operator left join fetch o.orderDetails d "
+            + "left join fetch d.variant left join fetch d.product";
+
+    @Query(FETCH_DETAILS)
+    List<OrderEntity> fetchDetails();
+
+    @Query(FETCH_DETAILS + " where o.user.id = :userId")
+    List<OrderEntity> fetchDetailsByUserId(@Param("userId") Long userId);
+}
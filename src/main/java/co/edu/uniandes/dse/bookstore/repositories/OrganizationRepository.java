@@ -26,10 +26,16 @@ package co.edu.uniandes.dse.bookstore.repositories;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interface that persists an organization
@@ -39,5 +45,11 @@ import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
  */
 @Repository
 public interface OrganizationRepository extends JpaRepository<OrganizationEntity, Long> {
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.REFERENCE_QUERIES) })
 	List<OrganizationEntity> findByName(String name);
+
+	@EntityGraph(attributePaths = "prize")
+	@Query("select o from OrganizationEntity o")
+	List<OrganizationEntity> findAllWithPrize();
 }
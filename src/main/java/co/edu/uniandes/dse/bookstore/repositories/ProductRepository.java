@@ -1,9 +1,119 @@
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import co.edu.uniandes.dse.bookstore.dto.ProductFacetDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
 import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
-} 
\ No newline at end of file
+    String SUMMARY_SELECT = "select new co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO(p.id, p.name, p.price, p.ratingAverage, p.ratingCount, c.id, c.name) "
+            + "from ProductEntity p left join p.category c";
+
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(p) from ProductEntity p")
+    Page<ProductSummaryDTO> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " where p.id > :after order by p.id")
+    List<ProductSummaryDTO> findSummariesAfter(@Param("after") Long after, Limit limit);
+
+    @Query(SUMMARY_SELECT + " where p.id = :id")
+    Optional<ProductSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + " where p.id in :ids")
+    List<ProductSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    String FACET_SELECT = "select new co.edu.uniandes.dse.bookstore.dto.ProductFacetDTO(p.id, c.id, p.price, v.id, v.color, v.size, v.stock) "
+            + "from ProductEntity p left join p.category c left join p.variants v";
+
+    @Query(FACET_SELECT + " where p.id in :ids")
+    List<ProductFacetDTO> findFacetsByProductIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id from ProductEntity p where p.id > :after order by p.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Productos mejor calificados; los que no tienen reseñas quedan al final.
+     */
+    @Query(value = SUMMARY_SELECT + " order by p.ratingAverage desc nulls last, p.ratingCount desc, p.id",
+            countQuery = "select count(p) from ProductEntity p")
+    Page<ProductSummaryDTO> findSummariesByRating(Pageable pageable);
+
+    /**
+     * Versión del producto: su número de versión y la fecha más reciente entre el
+     * producto y sus variantes. La compra solo modifica las variantes, así que el
+     * stock cambia el Last-Modified (y el ETag) sin escribir la fila del producto.
+     */
+    @Query("select new co.edu.uniandes.dse.bookstore.dto.VersionDTO(p.version, greatest(p.updatedAt, "
+            + "coalesce((select max(v.updatedAt) from VariantEntity v where v.product.id = p.id), p.updatedAt))) "
+            + "from ProductEntity p where p.id = :id")
+    Optional<VersionDTO> findVersionById(@Param("id") Long id);
+
+    /**
+     * Versión del catálogo completo: cualquier creación, modificación o borrado de
+     * un producto, o compra de una de sus variantes, cambia el conteo o la fecha
+     * máxima. Ambos se resuelven sin recorrer las tablas (los máximos con
+     * idx_product_updated_at e idx_variant_updated_at).
+     */
+    @Query("select new co.edu.uniandes.dse.bookstore.dto.VersionDTO(count(p), greatest(max(p.updatedAt), "
+            + "coalesce((select max(v.updatedAt) from VariantEntity v), max(p.updatedAt)))) from ProductEntity p")
+    VersionDTO findCatalogVersion();
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ProductEntity p set p.version = p.version + 1, p.updatedAt = :ahora, p.ratingCount = p.ratingCount + :delta, "
+            + "p.ratingSum = p.ratingSum + :delta * :rating, "
+            + "p.ratingAverage = case when p.ratingCount + :delta = 0 then null "
+            + "else (p.ratingSum + :delta * :rating) * 1.0 / (p.ratingCount + :delta) end, "
+            + "p.rating1Count = p.rating1Count + case when :rating = 1 then :delta else 0 end, "
+            + "p.rating2Count = p.rating2Count + case when :rating = 2 then :delta else 0 end, "
+            + "p.rating3Count = p.rating3Count + case when :rating = 3 then :delta else 0 end, "
+            + "p.rating4Count = p.rating4Count + case when :rating = 4 then :delta else 0 end, "
+            + "p.rating5Count = p.rating5Count + case when :rating = 5 then :delta else 0 end "
+            + "where p.id = :id")
+    int ajustarCalificaciones(@Param("id") Long id, @Param("rating") int rating, @Param("delta") long delta,
+            @Param("ahora") Instant ahora);
+
+    @EntityGraph(attributePaths = "category")
+    @Query(value = "select p from ProductEntity p", countQuery = "select count(p) from ProductEntity p")
+    Page<ProductEntity> findAllWithCategory(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("select p from ProductEntity p where p.id in :ids")
+    List<ProductEntity> findWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("select p from ProductEntity p where p.id > :after order by p.id")
+    List<ProductEntity> findWithCategoryAfter(@Param("after") Long after, Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from ProductEntity p order by p.id")
+    Stream<ProductEntity> streamAllWithCategory();
+
+    // Cada colección se carga con su propia consulta para evitar el producto cartesiano
+    @Query("select distinct p from ProductEntity p left join fetch p.photos where p in :products")
+    List<ProductEntity> fetchPhotos(@Param("products") Collection<ProductEntity> products);
+
+    @Query("select distinct p from ProductEntity p left join fetch p.videos where p in :products")
+    List<ProductEntity> fetchVideos(@Param("products") Collection<ProductEntity> products);
+
+    @Query("select distinct p from ProductEntity p left join fetch p.variants where p in :products")
+    List<ProductEntity> fetchVariants(@Param("products") Collection<ProductEntity> products);
+}
@@ -24,10 +24,19 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.repositories;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import jakarta.persistence.LockModeType;
 
 /**
  * Interface that persists a review
@@ -38,4 +47,39 @@ import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
 	ReviewEntity findByClothingIdAndId(Long clothingId, Long id);
+
+	Optional<ReviewEntity> findByProductIdAndId(Long productId, Long id);
+
+	List<ReviewEntity> findByProductId(Long productId, Sort sort);
+
+	/**
+	 * Reseñas de un producto más antiguas que {@code afterId}, de la más reciente a
+	 * la más antigua (los ids son crecientes). El carrito del autor se une porque,
+	 * como lado inverso de un uno a uno, Hibernate lo cargaría por cada autor.
+	 */
+	@Query("select r from ReviewEntity r left join fetch r.user u left join fetch u.cart"
+			+ " where r.product.id = :productId"
+			+ " and r.rating between :minRating and :maxRating and r.id < :afterId order by r.id desc")
+	List<ReviewEntity> findPageByRecency(@Param("productId") Long productId, @Param("minRating") int minRating,
+			@Param("maxRating") int maxRating, @Param("afterId") long afterId, Limit limit);
+
+	/**
+	 * Reseñas de un producto que siguen a ({@code afterRating}, {@code afterId}) en
+	 * orden de calificación descendente y, a igual calificación, de recencia.
+	 */
+	@Query("select r from ReviewEntity r left join fetch r.user u left join fetch u.cart"
+			+ " where r.product.id = :productId"
+			+ " and r.rating between :minRating and :maxRating"
+			+ " and (r.rating < :afterRating or (r.rating = :afterRating and r.id < :afterId))"
+			+ " order by r.rating desc, r.id desc")
+	List<ReviewEntity> findPageByRating(@Param("productId") Long productId, @Param("minRating") int minRating,
+			@Param("maxRating") int maxRating, @Param("afterRating") int afterRating, @Param("afterId") long afterId,
+			Limit limit);
+
+	/**
+	 * Bloquea la reseña para que dos cambios concurrentes no descuenten dos veces
+	 * la misma calificación de los agregados del producto.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<ReviewEntity> findWithLockByProductIdAndId(Long productId, Long id);
 }
@@ -1,9 +1,50 @@
 package co.edu.uniandes.dse.bookstore.repositories;
 
 import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
+
+    /**
+     * El carrito es el lado inverso de un uno a uno y Hibernate lo carga siempre;
+     * se trae en la misma consulta para no hacer una consulta por usuario.
+     */
+    @Query("select u from UserEntity u left join fetch u.cart where u.id in :ids")
+    List<UserEntity> findWithCartByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "cart")
+    @Query("select u from UserEntity u")
+    List<UserEntity> findAllWithCart();
+
+    @EntityGraph(attributePaths = "cart")
+    Optional<UserEntity> findWithCartById(Long id);
+
+    /*
+     * Cada colección se carga con su propia consulta para evitar el producto
+     * cartesiano, restringida igual que la consulta principal (todos los usuarios
+     * o uno) y no por una lista con un parámetro por entidad.
+     */
+    String FETCH_ORDERS = "select distinct u from UserEntity u left join fetch u.orders";
+    String FETCH_REVIEWS = "select distinct u from UserEntity u left join fetch u.reviews";
+
+    @Query(FETCH_ORDERS)
+    List<UserEntity> fetchOrders();
+
+    @Query(FETCH_ORDERS + " where u.id = :id")
+    List<UserEntity> fetchOrdersById(@Param("id") Long id);
+
+    @Query(FETCH_REVIEWS)
+    List<UserEntity> fetchReviews();
+
+    @Query(FETCH_REVIEWS + " where u.id = :id")
+    List<UserEntity> fetchReviewsById(@Param("id") Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package co.edu.uniandes.dse.bookstore.repositories;
+
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface VariantRepository extends JpaRepository<VariantEntity, Long> {
+
+    /**
+     * Descuenta {@code cantidad} unidades solo si hay existencias suficientes. La
+     * condición y el descuento son una sola sentencia, así que el stock nunca
+     * queda negativo aunque varias compras lleguen a la vez. Solo se bloquea la
+     * fila de la variante; la fecha de modificación que avanza es la suya.
+     *
+     * @return 1 si se reservó, 0 si no había stock suficiente o la variante no existe
+     */
+    @Modifying
+    @Query("update VariantEntity v set v.stock = v.stock - :cantidad, v.updatedAt = :ahora "
+            + "where v.id = :id and v.stock >= :cantidad")
+    int reservarStock(@Param("id") Long id, @Param("cantidad") int cantidad, @Param("ahora") Instant ahora);
+}
@@ -0,0 +1,156 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import co.edu.uniandes.dse.bookstore.entities.CartEntity;
+import co.edu.uniandes.dse.bookstore.entities.CartItemEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.CartItemRepository;
+import co.edu.uniandes.dse.bookstore.repositories.CartRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Operaciones sobre el carrito de un usuario. Cada operación modifica solo la
+ * línea del producto afectado (ver {@link CartItemRepository}).
+ *
+ * Las operaciones concurrentes sobre el mismo carrito (varias pestañas) se
+ * serializan con un candado por franja, elegido a partir del id del usuario: no
+ * se bloquea la tabla y carritos de usuarios distintos avanzan en paralelo. La
+ * transacción se ejecuta dentro del candado para que el commit ocurra antes de
+ * liberarlo.
+ *
+ * El candado no cubre varias instancias de la aplicación: ahí las restricciones
+ * únicas (un carrito por usuario, una línea por producto) impiden duplicados, y
+ * quien pierde la carrera al crear el carrito o la línea reintenta en una
+ * transacción nueva, donde ya encuentra la fila de la otra instancia.
+ */
+@Service
+public class CartService {
+
+    private static final int FRANJAS = 64;
+
+    private static final int INTENTOS = 3;
+
+    private final Lock[] candados = new Lock[FRANJAS];
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public CartService() {
+        for (int i = 0; i < FRANJAS; i++) {
+            candados[i] = new ReentrantLock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CartEntity obtenerCarrito(Long usuarioId) throws EntityNotFoundException {
+        validarUsuario(usuarioId);
+        return cartRepository.findWithItemsByUserId(usuarioId).orElseGet(CartEntity::new);
+    }
+
+    /**
+     * Agrega {@code cantidad} unidades del producto al carrito, creando el carrito
+     * o la línea si no existen.
+     */
+    public CartItemEntity agregarProducto(Long usuarioId, Long productoId, Integer cantidad)
+            throws EntityNotFoundException, IllegalOperationException {
+        validarCantidad(cantidad);
+        validarUsuario(usuarioId);
+        if (!productRepository.existsById(productoId)) {
+            throw new EntityNotFoundException("Producto no encontrado");
+        }
+        for (int intento = 1;; intento++) {
+            try {
+                return agregarConCandado(usuarioId, productoId, cantidad);
+            } catch (DataIntegrityViolationException e) {
+                if (intento == INTENTOS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private CartItemEntity agregarConCandado(Long usuarioId, Long productoId, Integer cantidad) {
+        return conCandado(usuarioId, status -> {
+            CartEntity carrito = cartRepository.findByUserId(usuarioId).orElseGet(() -> crearCarrito(usuarioId));
+            if (cartItemRepository.incrementarCantidad(carrito.getId(), productoId, cantidad) == 0) {
+                CartItemEntity item = new CartItemEntity();
+                item.setCart(cartRepository.getReferenceById(carrito.getId()));
+                item.setProduct(productRepository.getReferenceById(productoId));
+                item.setQuantity(cantidad);
+                cartItemRepository.saveAndFlush(item);
+            }
+            return cartItemRepository.findByCartIdAndProductId(carrito.getId(), productoId).get();
+        });
+    }
+
+    public CartItemEntity cambiarCantidad(Long usuarioId, Long productoId, Integer cantidad)
+            throws EntityNotFoundException, IllegalOperationException {
+        validarCantidad(cantidad);
+        Optional<CartItemEntity> item = conCandado(usuarioId, status -> cartRepository.findByUserId(usuarioId)
+                .filter(carrito -> cartItemRepository.cambiarCantidad(carrito.getId(), productoId, cantidad) > 0)
+                .flatMap(carrito -> cartItemRepository.findByCartIdAndProductId(carrito.getId(), productoId)));
+        if (item.isEmpty()) {
+            throw new EntityNotFoundException("El producto no está en el carrito");
+        }
+        return item.get();
+    }
+
+    public void eliminarProducto(Long usuarioId, Long productoId) throws EntityNotFoundException {
+        boolean eliminado = conCandado(usuarioId, status -> cartRepository.findByUserId(usuarioId)
+                .map(carrito -> cartItemRepository.eliminar(carrito.getId(), productoId) > 0)
+                .orElse(false));
+        if (!eliminado) {
+            throw new EntityNotFoundException("El producto no está en el carrito");
+        }
+    }
+
+    private <T> T conCandado(Long usuarioId, TransactionCallback<T> operacion) {
+        Lock candado = candados[Math.floorMod(usuarioId.hashCode(), FRANJAS)];
+        candado.lock();
+        try {
+            return transactionTemplate.execute(operacion);
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    private CartEntity crearCarrito(Long usuarioId) {
+        CartEntity carrito = new CartEntity();
+        carrito.setUser(userRepository.getReferenceById(usuarioId));
+        return cartRepository.saveAndFlush(carrito);
+    }
+
+    private void validarUsuario(Long usuarioId) throws EntityNotFoundException {
+        if (!userRepository.existsById(usuarioId)) {
+            throw new EntityNotFoundException("Usuario no encontrado");
+        }
+    }
+
+    private static void validarCantidad(Integer cantidad) throws IllegalOperationException {
+        if (cantidad == null || cantidad <= 0) {
+            throw new IllegalOperationException("La cantidad debe ser mayor a cero");
+        }
+    }
+}
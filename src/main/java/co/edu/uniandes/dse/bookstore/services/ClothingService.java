@@ -24,13 +24,22 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.services;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
 import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
 import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
 import co.edu.uniandes.dse.bookstore.entities.DesignerEntity;
@@ -39,6 +48,8 @@ import co.edu.uniandes.dse.bookstore.exceptions.ErrorMessage;
 import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.bookstore.repositories.ClothingRepository;
 import co.edu.uniandes.dse.bookstore.repositories.BrandRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -50,6 +61,12 @@ public class ClothingService {
 
 	@Autowired
 	BrandRepository brandRepository;
+
+	@Autowired
+	SearchService searchService;
+
+	@PersistenceContext
+	EntityManager entityManager;
 	
 	/**
 	 * Guardar una nueva prenda
@@ -77,47 +94,128 @@ public class ClothingService {
 			throw new IllegalOperationException("SKU already exists");
 
 		clothingEntity.setBrand(brandEntity.get());
+		ClothingEntity created = clothingRepository.save(clothingEntity);
+		searchService.indexarPrenda(created);
 		log.info("Termina proceso de creación de la prenda");
-		return clothingRepository.save(clothingEntity);
+		return created;
 	}
 
 	/**
-	 * Devuelve todas las prendas que hay en la base de datos.
+	 * Devuelve todas las prendas que hay en la base de datos, con la marca, los
+	 * diseñadores y las reseñas (con su usuario) cargados en tres consultas.
 	 *
 	 * @return Lista de entidades de tipo prenda.
 	 */
-	@Transactional
+	@Transactional(readOnly = true)
 	public List<ClothingEntity> getClothingItems() {
 		log.info("Inicia proceso de consultar todas las prendas");
-		return clothingRepository.findAll();
+		List<ClothingEntity> clothingItems = clothingRepository.findAllWithBrand();
+		if (!clothingItems.isEmpty()) {
+			clothingRepository.fetchDesigners();
+			clothingRepository.fetchReviews();
+		}
+		return clothingItems;
+	}
+
+	/**
+	 * Busca las prendas con los ids dados. Los ids que no existen se omiten y el
+	 * orden del resultado no está definido. La marca, los diseñadores y las
+	 * reseñas (con su usuario) quedan cargados con tres consultas, sin importar
+	 * el número de ids.
+	 *
+	 * @param clothingIds Los ids de las prendas a buscar
+	 * @return Las prendas encontradas
+	 */
+	@Transactional(readOnly = true)
+	public List<ClothingEntity> getClothingItems(Collection<Long> clothingIds) {
+		log.info("Inicia proceso de consultar {} prendas por id", clothingIds.size());
+		if (clothingIds.isEmpty())
+			return List.of();
+		List<ClothingEntity> clothingItems = clothingRepository.findByIdIn(clothingIds);
+		if (!clothingItems.isEmpty()) {
+			clothingRepository.fetchDesignersByIdIn(clothingIds);
+			clothingRepository.fetchReviewsByIdIn(clothingIds);
+		}
+		return clothingItems;
+	}
+
+	/**
+	 * Recorre todas las prendas con un cursor y las entrega en lotes, limpiando el
+	 * contexto de persistencia después de cada uno.
+	 *
+	 * @param batchSize Número de prendas por lote
+	 * @param consumer  Recibe cada lote, con la marca ya cargada
+	 */
+	@Transactional(readOnly = true)
+	public void forEachClothingBatch(int batchSize, Consumer<List<ClothingEntity>> consumer) {
+		try (Stream<ClothingEntity> clothingItems = clothingRepository.streamAllWithBrand()) {
+			Lotes.recorrer(clothingItems, batchSize, batch -> {
+				consumer.accept(batch);
+				entityManager.clear();
+			});
+		}
 	}
 
 	/**
-	 * Busca una prenda por ID
+	 * Busca una prenda por ID. El resultado se guarda en caché con las reseñas y
+	 * los diseñadores ya cargados.
 	 *
 	 * @param clothingId El id de la prenda a buscar
 	 * @return La prenda encontrada
 	 * @throws EntityNotFoundException Si la prenda no se encuentra
 	 */
+	@Cacheable(CacheConfig.CLOTHING)
 	@Transactional
 	public ClothingEntity getClothing(Long clothingId) throws EntityNotFoundException {
 		log.info("Inicia proceso de consultar la prenda con id = {0}", clothingId);
 		Optional<ClothingEntity> clothingEntity = clothingRepository.findById(clothingId);
 		if (clothingEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
+		// Los diseñadores salen de la caché de segundo nivel; las reseñas, con su usuario
+		Hibernate.initialize(clothingEntity.get().getDesigners());
+		clothingRepository.fetchReviewsById(clothingId);
 		log.info("Termina proceso de consultar la prenda con id = {0}", clothingId);
 		return clothingEntity.get();
 	}
 
+	/**
+	 * Busca la versión de una prenda sin cargarla, para responder peticiones
+	 * condicionales.
+	 *
+	 * @param clothingId El id de la prenda
+	 * @return La versión y la fecha de la última modificación de la prenda
+	 * @throws EntityNotFoundException Si la prenda no se encuentra
+	 */
+	@Transactional(readOnly = true)
+	public VersionDTO getClothingVersion(Long clothingId) throws EntityNotFoundException {
+		Optional<VersionDTO> version = clothingRepository.findVersionById(clothingId);
+		if (version.isEmpty())
+			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
+		return version.get();
+	}
+
+	/**
+	 * Devuelve la versión del conjunto de prendas: cambia al crear, modificar o
+	 * borrar cualquiera de ellas.
+	 *
+	 * @return El número de prendas y la fecha de la última modificación
+	 */
+	@Transactional(readOnly = true)
+	public VersionDTO getClothingItemsVersion() {
+		return clothingRepository.findCollectionVersion();
+	}
+
 	/**
 	 * Actualizar una prenda por ID
 	 *
 	 * @param clothingId    El ID de la prenda a actualizar
-	 * @param clothing La entidad de la prenda con los cambios deseados
+	 * @param clothing La entidad de la prenda con los cambios deseados; si trae
+	 *                 versión, es la que leyó el cliente y debe ser la actual
 	 * @return La entidad de la prenda luego de actualizarla
 	 * @throws IllegalOperationException Si el SKU de la actualización es inválido
 	 * @throws EntityNotFoundException Si la prenda no es encontrada
 	 */
+	@CacheEvict(cacheNames = CacheConfig.CLOTHING, key = "#clothingId")
 	@Transactional
 	public ClothingEntity updateClothing(Long clothingId, ClothingEntity clothing)
 			throws EntityNotFoundException, IllegalOperationException {
@@ -129,9 +227,15 @@ public class ClothingService {
 		if (!validateSKU(clothing.getSku()))
 			throw new IllegalOperationException("SKU is not valid");
 
+		if (clothing.getVersion() != null && !clothing.getVersion().equals(clothingEntity.get().getVersion()))
+			throw new ObjectOptimisticLockingFailureException(ClothingEntity.class, clothingId);
+
 		clothing.setId(clothingId);
+		clothing.setVersion(clothingEntity.get().getVersion());
+		ClothingEntity updated = clothingRepository.save(clothing);
+		searchService.indexarPrenda(updated);
 		log.info("Termina proceso de actualizar la prenda con id = {0}", clothingId);
-		return clothingRepository.save(clothing);
+		return updated;
 	}
 
 	/**
@@ -141,6 +245,7 @@ public class ClothingService {
 	 * @throws IllegalOperationException si la prenda tiene diseñadores asociados
 	 * @throws EntityNotFoundException si la prenda no existe
 	 */
+	@CacheEvict(cacheNames = CacheConfig.CLOTHING, key = "#clothingId")
 	@Transactional
 	public void deleteClothing(Long clothingId) throws EntityNotFoundException, IllegalOperationException {
 		log.info("Inicia proceso de borrar la prenda con id = {0}", clothingId);
@@ -154,6 +259,7 @@ public class ClothingService {
 			throw new IllegalOperationException("Unable to delete clothing because it has associated designers");
 
 		clothingRepository.deleteById(clothingId);
+		searchService.eliminarPrenda(clothingId);
 		log.info("Termina proceso de borrar la prenda con id = {0}", clothingId);
 	}
 
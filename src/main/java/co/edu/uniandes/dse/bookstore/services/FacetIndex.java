@@ -0,0 +1,362 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import co.edu.uniandes.dse.bookstore.dto.ProductFacetDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterDTO;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Bitmaps comprimidos (Roaring) de ids de producto por categoría, rango de
+ * precio y combinación color/talla de sus variantes, con y sin existencias.
+ * Filtrar es intersecar bitmaps y contar una faceta es la cardinalidad de una
+ * intersección, sin recorrer productos ni variantes.
+ *
+ * Los bitmaps de variantes se indexan por la pareja color/talla, de modo que
+ * "talla M, rojo, con existencias" exige una misma variante roja, talla M y con
+ * stock, y no un producto con una variante roja y otra talla M.
+ *
+ * Los conteos de cada faceta ignoran el filtro de esa misma faceta (y aplican
+ * los demás): muestran cuántos productos habría al agregar otro valor.
+ *
+ * Los filtros se ejecutan en paralelo bajo un candado de lectura; cada
+ * actualización toma el de escritura solo mientras mueve los ids de sus
+ * productos. Ver {@link FacetService}.
+ */
+public class FacetIndex {
+
+    public static final String FACETA_COLOR = "color";
+    public static final String FACETA_TALLA = "size";
+    public static final String FACETA_CATEGORIA = "category";
+    public static final String FACETA_PRECIO = "price";
+
+    /**
+     * Límite inferior de cada rango de precio; el último rango no tiene límite
+     * superior. Las etiquetas son "0-50000", ..., "500000+".
+     */
+    private static final long[] LIMITES_PRECIO = { 0, 50_000, 100_000, 200_000, 500_000 };
+    private static final String[] RANGOS_PRECIO = new String[LIMITES_PRECIO.length];
+
+    static {
+        for (int i = 0; i < LIMITES_PRECIO.length; i++) {
+            RANGOS_PRECIO[i] = i == LIMITES_PRECIO.length - 1 ? LIMITES_PRECIO[i] + "+"
+                    : LIMITES_PRECIO[i] + "-" + LIMITES_PRECIO[i + 1];
+        }
+    }
+
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    // Lo indexado de cada producto, para poder retirarlo al actualizarlo
+    private final Map<Integer, Producto> productos = new HashMap<>();
+    private final RoaringBitmap todos = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> porCategoria = new HashMap<>();
+    private final Map<String, RoaringBitmap> porPrecio = new HashMap<>();
+    private final Map<Variante, RoaringBitmap> porVariante = new HashMap<>();
+    private final Map<Variante, RoaringBitmap> porVarianteConExistencias = new HashMap<>();
+
+    /**
+     * Reemplaza lo indexado de los productos {@code ids} por las filas dadas. Un
+     * id sin filas queda fuera del índice (producto eliminado).
+     */
+    public void actualizar(Collection<Long> ids, List<ProductFacetDTO> filas) {
+        Map<Integer, Producto> nuevos = agrupar(filas);
+        candado.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                retirar(Math.toIntExact(id));
+            }
+            nuevos.forEach(this::agregar);
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marca sin existencias las variantes dadas (id de variante a id de
+     * producto), sin releer sus productos. Un producto sale del bitmap de una
+     * combinación color/talla con existencias solo si ninguna otra de sus
+     * variantes con esa combinación tiene stock. Las variantes o productos que
+     * no están en el índice se ignoran.
+     */
+    public void agotar(Map<Long, Long> productoPorVariante) {
+        candado.writeLock().lock();
+        try {
+            productoPorVariante.forEach((varianteId, productoId) -> {
+                int id = Math.toIntExact(productoId);
+                Producto producto = productos.get(id);
+                Variante variante = producto != null ? producto.conExistencias().remove(varianteId) : null;
+                if (variante != null && !producto.conExistencias().containsValue(variante)) {
+                    quitar(porVarianteConExistencias, variante, id);
+                }
+            });
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacta los bitmaps (contenedores de rangos para ids consecutivos). Se
+     * llama después de una carga masiva.
+     */
+    public void optimizar() {
+        candado.writeLock().lock();
+        try {
+            todos.runOptimize();
+            List.of(porCategoria, porPrecio).forEach(mapa -> mapa.values().forEach(RoaringBitmap::runOptimize));
+            List.of(porVariante, porVarianteConExistencias)
+                    .forEach(mapa -> mapa.values().forEach(RoaringBitmap::runOptimize));
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    public int tamano() {
+        candado.readLock().lock();
+        try {
+            return todos.getCardinality();
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids de producto que cumplen el filtro, en orden ascendente y después de
+     * {@code despuesDe}, con el total de coincidencias y los conteos por faceta.
+     */
+    public Pagina filtrar(ProductFilterDTO filtro, long despuesDe, int limite) {
+        Set<String> colores = valores(filtro.getColor(), false);
+        Set<String> tallas = valores(filtro.getSize(), true);
+        Set<String> categorias = valores(filtro.getCategory(), false);
+        Set<String> precios = valores(filtro.getPrice(), false);
+        boolean conExistencias = filtro.isInStock();
+
+        candado.readLock().lock();
+        try {
+            // null significa que la faceta no restringe
+            RoaringBitmap porVariantes = variantes(colores, tallas, conExistencias);
+            RoaringBitmap porCategorias = union(porCategoria, categorias);
+            RoaringBitmap porPrecios = union(porPrecio, precios);
+            RoaringBitmap coincidencias = interseccion(interseccion(porVariantes, porCategorias), porPrecios);
+            if (coincidencias == null) {
+                coincidencias = todos;
+            }
+
+            Map<String, Map<String, Integer>> facetas = new LinkedHashMap<>();
+            RoaringBitmap sinVariantes = interseccion(porCategorias, porPrecios);
+            facetas.put(FACETA_COLOR, contarVariantes(sinVariantes, colores(conExistencias),
+                    color -> variantes(Set.of(color), tallas, conExistencias)));
+            facetas.put(FACETA_TALLA, contarVariantes(sinVariantes, tallas(conExistencias),
+                    talla -> variantes(colores, Set.of(talla), conExistencias)));
+            facetas.put(FACETA_CATEGORIA, contar(interseccion(porVariantes, porPrecios), new TreeMap<>(porCategoria)));
+            Map<String, RoaringBitmap> rangos = new LinkedHashMap<>();
+            for (String rango : RANGOS_PRECIO) {
+                if (porPrecio.containsKey(rango)) {
+                    rangos.put(rango, porPrecio.get(rango));
+                }
+            }
+            facetas.put(FACETA_PRECIO, contar(interseccion(porVariantes, porCategorias), rangos));
+
+            List<Long> ids = new ArrayList<>(limite);
+            PeekableIntIterator iterador = coincidencias.getIntIterator();
+            if (despuesDe >= 0) {
+                iterador.advanceIfNeeded((int) Math.min(despuesDe + 1, Integer.MAX_VALUE));
+            }
+            while (iterador.hasNext() && ids.size() <= limite) {
+                ids.add((long) iterador.next());
+            }
+            Long siguiente = null;
+            if (ids.size() > limite) {
+                ids.remove(limite);
+                siguiente = ids.get(limite - 1);
+            }
+            return new Pagina(ids, siguiente, coincidencias.getLongCardinality(), facetas);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    public record Pagina(List<Long> ids, Long siguiente, long total, Map<String, Map<String, Integer>> facetas) {
+    }
+
+    static String rangoPrecio(Double precio) {
+        if (precio == null || precio < 0) {
+            return null;
+        }
+        int i = LIMITES_PRECIO.length - 1;
+        while (precio < LIMITES_PRECIO[i]) {
+            i--;
+        }
+        return RANGOS_PRECIO[i];
+    }
+
+    private RoaringBitmap variantes(Set<String> colores, Set<String> tallas, boolean conExistencias) {
+        if (colores.isEmpty() && tallas.isEmpty() && !conExistencias) {
+            return null;
+        }
+        List<RoaringBitmap> coincidencias = new ArrayList<>();
+        (conExistencias ? porVarianteConExistencias : porVariante).forEach((variante, bitmap) -> {
+            if ((colores.isEmpty() || colores.contains(variante.color()))
+                    && (tallas.isEmpty() || tallas.contains(variante.talla()))) {
+                coincidencias.add(bitmap);
+            }
+        });
+        return FastAggregation.or(coincidencias.iterator());
+    }
+
+    private Set<String> colores(boolean conExistencias) {
+        Set<String> colores = new TreeSet<>();
+        (conExistencias ? porVarianteConExistencias : porVariante).keySet().forEach(v -> colores.add(v.color()));
+        return colores;
+    }
+
+    private Set<String> tallas(boolean conExistencias) {
+        Set<String> tallas = new TreeSet<>();
+        (conExistencias ? porVarianteConExistencias : porVariante).keySet().forEach(v -> tallas.add(v.talla()));
+        return tallas;
+    }
+
+    private static Map<String, Integer> contarVariantes(RoaringBitmap base, Set<String> valores,
+            Function<String, RoaringBitmap> bitmap) {
+        Map<String, RoaringBitmap> bitmaps = new LinkedHashMap<>();
+        valores.forEach(valor -> bitmaps.put(valor, bitmap.apply(valor)));
+        return contar(base, bitmaps);
+    }
+
+    private static Map<String, Integer> contar(RoaringBitmap base, Map<String, RoaringBitmap> bitmaps) {
+        Map<String, Integer> conteos = new LinkedHashMap<>();
+        bitmaps.forEach((valor, bitmap) -> {
+            int conteo = base == null ? bitmap.getCardinality() : RoaringBitmap.andCardinality(base, bitmap);
+            if (conteo > 0) {
+                conteos.put(valor, conteo);
+            }
+        });
+        return conteos;
+    }
+
+    private static RoaringBitmap union(Map<String, RoaringBitmap> bitmaps, Set<String> valores) {
+        if (valores.isEmpty()) {
+            return null;
+        }
+        List<RoaringBitmap> coincidencias = new ArrayList<>(valores.size());
+        for (String valor : valores) {
+            RoaringBitmap bitmap = bitmaps.get(valor);
+            if (bitmap != null) {
+                coincidencias.add(bitmap);
+            }
+        }
+        return FastAggregation.or(coincidencias.iterator());
+    }
+
+    private static RoaringBitmap interseccion(RoaringBitmap a, RoaringBitmap b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : RoaringBitmap.and(a, b);
+    }
+
+    private static Map<Integer, Producto> agrupar(List<ProductFacetDTO> filas) {
+        Map<Integer, Producto> productos = new HashMap<>();
+        for (ProductFacetDTO fila : filas) {
+            Producto producto = productos.computeIfAbsent(Math.toIntExact(fila.getProductId()),
+                    id -> new Producto(fila.getCategoryId() != null ? String.valueOf(fila.getCategoryId()) : null,
+                            rangoPrecio(fila.getPrice()), new HashSet<>(), new HashMap<>()));
+            String color = normalizar(fila.getColor(), false);
+            String talla = normalizar(fila.getSize(), true);
+            if (color == null || talla == null) {
+                continue;
+            }
+            Variante variante = new Variante(color, talla);
+            producto.variantes().add(variante);
+            if (fila.getStock() != null && fila.getStock() > 0) {
+                producto.conExistencias().put(fila.getVariantId(), variante);
+            }
+        }
+        return productos;
+    }
+
+    private void agregar(Integer id, Producto producto) {
+        productos.put(id, producto);
+        todos.add(id);
+        poner(porCategoria, producto.categoria(), id);
+        poner(porPrecio, producto.rangoPrecio(), id);
+        producto.variantes().forEach(variante -> poner(porVariante, variante, id));
+        Set.copyOf(producto.conExistencias().values())
+                .forEach(variante -> poner(porVarianteConExistencias, variante, id));
+    }
+
+    private void retirar(int id) {
+        Producto producto = productos.remove(id);
+        if (producto == null) {
+            return;
+        }
+        todos.remove(id);
+        quitar(porCategoria, producto.categoria(), id);
+        quitar(porPrecio, producto.rangoPrecio(), id);
+        producto.variantes().forEach(variante -> quitar(porVariante, variante, id));
+        Set.copyOf(producto.conExistencias().values())
+                .forEach(variante -> quitar(porVarianteConExistencias, variante, id));
+    }
+
+    private static <K> void poner(Map<K, RoaringBitmap> bitmaps, K llave, int id) {
+        if (llave != null) {
+            bitmaps.computeIfAbsent(llave, k -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static <K> void quitar(Map<K, RoaringBitmap> bitmaps, K llave, int id) {
+        RoaringBitmap bitmap = llave != null ? bitmaps.get(llave) : null;
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(id);
+        // Un valor sin productos deja de aparecer en las facetas
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(llave);
+        }
+    }
+
+    private static Set<String> valores(List<String> valores, boolean mayusculas) {
+        Set<String> normalizados = new HashSet<>();
+        if (valores != null) {
+            for (String valor : valores) {
+                String normalizado = normalizar(valor, mayusculas);
+                if (normalizado != null) {
+                    normalizados.add(normalizado);
+                }
+            }
+        }
+        return normalizados;
+    }
+
+    // Colores en minúscula y tallas en mayúscula, para que "Rojo" y "rojo" sean el mismo valor
+    private static String normalizar(String valor, boolean mayusculas) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        String limpio = valor.trim();
+        return mayusculas ? limpio.toUpperCase(Locale.ROOT) : limpio.toLowerCase(Locale.ROOT);
+    }
+
+    private record Variante(String color, String talla) {
+    }
+
+    // Las variantes con existencias van por id, para poder agotarlas una a una
+    private record Producto(String categoria, String rangoPrecio, Set<Variante> variantes,
+            Map<Long, Variante> conExistencias) {
+    }
+}
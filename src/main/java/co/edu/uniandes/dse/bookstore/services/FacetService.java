@@ -0,0 +1,186 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import co.edu.uniandes.dse.bookstore.dto.ProductFacetDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterResultDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Filtrado por facetas del catálogo (color, talla y existencias de las
+ * variantes, categoría y rango de precio) sobre un {@link FacetIndex} en memoria.
+ *
+ * Igual que {@link SearchService}, el índice se reconstruye al arrancar y luego
+ * se mantiene desde los servicios que escriben productos o variantes: las filas
+ * del producto se leen dentro de la transacción que lo modificó (después del
+ * flush) y se aplican al índice solo después del commit.
+ */
+@Slf4j
+@Service
+public class FacetService {
+
+    private static final int LOTE_RECONSTRUCCION = 5_000;
+
+    // Se reemplaza completo al reconstruir, para no exponer un índice a medio llenar
+    private volatile FacetIndex indice = new FacetIndex();
+
+    /*
+     * Los cambios toman el candado compartido y la publicación de un índice
+     * reconstruido el exclusivo. Mientras se reconstruye, los cambios confirmados
+     * se aplican al índice actual y se encolan en pendientes para repetirlos, en
+     * el mismo orden, sobre el índice nuevo antes de publicarlo.
+     */
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+    private Queue<Consumer<FacetIndex>> pendientes;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    /**
+     * Página de productos (vista resumida) que cumplen el filtro, con los
+     * conteos por faceta. Los ids salen del índice y solo la página se consulta
+     * en la base de datos.
+     */
+    public ProductFilterResultDTO filtrar(ProductFilterDTO filtro, long despuesDe, int limite) {
+        FacetIndex.Pagina pagina = indice.filtrar(filtro, despuesDe, limite);
+        List<ProductSummaryDTO> productos = List.of();
+        if (!pagina.ids().isEmpty()) {
+            Map<Long, ProductSummaryDTO> porId = productRepository.findSummariesByIdIn(pagina.ids()).stream()
+                    .collect(Collectors.toMap(ProductSummaryDTO::getId, Function.identity()));
+            productos = pagina.ids().stream().map(porId::get).filter(Objects::nonNull).toList();
+        }
+        return new ProductFilterResultDTO(productos,
+                pagina.siguiente() != null ? String.valueOf(pagina.siguiente()) : null, pagina.total(),
+                pagina.facetas());
+    }
+
+    public void indexarProductos(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<ProductFacetDTO> filas = productRepository.findFacetsByProductIdIn(ids);
+        actualizarDespuesDelCommit(ids, filas);
+    }
+
+    /**
+     * Saca del filtro de existencias las variantes que una compra dejó sin stock
+     * (id de variante a id de producto). No consulta la base de datos: la compra
+     * ya conoce el stock resultante, y las demás facetas no cambian.
+     */
+    public void agotarVariantes(Map<Long, Long> productoPorVariante) {
+        if (productoPorVariante.isEmpty()) {
+            return;
+        }
+        despuesDelCommit(actual -> actual.agotar(productoPorVariante));
+    }
+
+    public void eliminarProducto(Long id) {
+        actualizarDespuesDelCommit(List.of(id), List.of());
+    }
+
+    /**
+     * Las facetas son auxiliares: si el índice no se puede construir al arrancar,
+     * la aplicación sigue en pie con el índice vacío.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirAlIniciar() {
+        try {
+            reconstruir();
+        } catch (DataAccessException e) {
+            log.error("No fue posible reconstruir el índice de facetas", e);
+        }
+    }
+
+    /**
+     * Construye un índice nuevo recorriendo el catálogo por llave, en lotes, y
+     * lo publica al terminar. Un lote ya leído no ve los cambios que se
+     * confirmen después; esos se repiten sobre el índice nuevo antes de
+     * publicarlo, sin que se pierda ni se cuele ninguno entre la repetición y la
+     * publicación.
+     */
+    public synchronized void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        Queue<Consumer<FacetIndex>> confirmados = new ConcurrentLinkedQueue<>();
+        conCandadoExclusivo(() -> pendientes = confirmados);
+        FacetIndex nuevo = new FacetIndex();
+        try {
+            long despuesDe = 0;
+            List<Long> ids;
+            do {
+                ids = productRepository.findIdsAfter(despuesDe, Limit.of(LOTE_RECONSTRUCCION));
+                if (!ids.isEmpty()) {
+                    nuevo.actualizar(ids, productRepository.findFacetsByProductIdIn(ids));
+                    despuesDe = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == LOTE_RECONSTRUCCION);
+            conCandadoExclusivo(() -> {
+                confirmados.forEach(cambio -> cambio.accept(nuevo));
+                nuevo.optimizar();
+                indice = nuevo;
+            });
+        } finally {
+            conCandadoExclusivo(() -> pendientes = null);
+        }
+        log.info("Índice de facetas reconstruido con {} productos en {} ms", nuevo.tamano(),
+                System.currentTimeMillis() - inicio);
+    }
+
+    private void actualizarDespuesDelCommit(Collection<Long> ids, List<ProductFacetDTO> filas) {
+        despuesDelCommit(actual -> actual.actualizar(ids, filas));
+    }
+
+    private void despuesDelCommit(Consumer<FacetIndex> cambio) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(cambio);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aplicar(cambio);
+            }
+        });
+    }
+
+    private void aplicar(Consumer<FacetIndex> cambio) {
+        candado.readLock().lock();
+        try {
+            cambio.accept(indice);
+            if (pendientes != null) {
+                pendientes.add(cambio);
+            }
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    private void conCandadoExclusivo(Runnable accion) {
+        candado.writeLock().lock();
+        try {
+            accion.run();
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Agrupa los elementos de un cursor en lotes de tamaño fijo.
+ */
+final class Lotes {
+
+    private Lotes() {
+    }
+
+    static <T> void recorrer(Stream<T> elementos, int tamano, Consumer<List<T>> consumidor) {
+        List<T> lote = new ArrayList<>(tamano);
+        Iterator<T> iterador = elementos.iterator();
+        while (iterador.hasNext()) {
+            lote.add(iterador.next());
+            if (lote.size() == tamano) {
+                consumidor.accept(lote);
+                lote = new ArrayList<>(tamano);
+            }
+        }
+        if (!lote.isEmpty()) {
+            consumidor.accept(lote);
+        }
+    }
+}
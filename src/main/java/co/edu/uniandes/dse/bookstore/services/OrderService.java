@@ -0,0 +1,144 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.entities.OrderDetailEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrderEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.OrderRepository;
+import co.edu.uniandes.dse.bookstore.repositories.UserRepository;
+import co.edu.uniandes.dse.bookstore.repositories.VariantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderService {
+
+    public static final String ESTADO_CREADA = "CREADA";
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private VariantRepository variantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FacetService facetService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Crea la orden y sus detalles en una sola transacción, reservando el stock de
+     * cada variante con un UPDATE condicional. Si alguna variante no alcanza, la
+     * transacción completa se revierte y no queda stock reservado.
+     *
+     * Las variantes se reservan en orden ascendente de id para que dos órdenes
+     * concurrentes con las mismas variantes tomen los bloqueos de fila en el mismo
+     * orden y no se bloqueen mutuamente. Los detalles se insertan en lote al
+     * hacer flush (ver hibernate.jdbc.batch_size).
+     *
+     * El stock forma parte del detalle de los productos: la reserva avanza la
+     * fecha de modificación de cada variante (y con ella el Last-Modified del
+     * producto) sin bloquear la fila del producto. Después del commit los
+     * productos comprados salen de la caché y las variantes agotadas salen del
+     * filtro de existencias, a partir del stock ya leído y sin reconsultar las
+     * facetas.
+     *
+     * @param detalles cada detalle indica la variante (por id) y la cantidad; las
+     *                 líneas repetidas de una variante se suman
+     */
+    @Transactional(rollbackFor = { EntityNotFoundException.class, IllegalOperationException.class })
+    public OrderEntity crearOrden(Long usuarioId, List<OrderDetailEntity> detalles)
+            throws EntityNotFoundException, IllegalOperationException {
+        // Se carga (y no solo se verifica) porque la respuesta incluye su resumen
+        Optional<UserEntity> usuario = userRepository.findById(usuarioId);
+        if (usuario.isEmpty()) {
+            throw new EntityNotFoundException("Usuario no encontrado");
+        }
+        Map<Long, Integer> cantidades = agruparPorVariante(detalles);
+
+        Instant ahora = Instant.now();
+        for (Map.Entry<Long, Integer> linea : cantidades.entrySet()) {
+            if (variantRepository.reservarStock(linea.getKey(), linea.getValue(), ahora) == 0) {
+                if (!variantRepository.existsById(linea.getKey())) {
+                    throw new EntityNotFoundException("Variante no encontrada");
+                }
+                throw new IllegalOperationException("Stock insuficiente para la variante " + linea.getKey());
+            }
+        }
+
+        // Se consultan después de reservar para que el stock reflejado sea el nuevo
+        Map<Long, VariantEntity> variantes = variantRepository.findAllById(cantidades.keySet()).stream()
+                .collect(Collectors.toMap(VariantEntity::getId, Function.identity()));
+        Cache productos = new TransactionAwareCacheDecorator(cacheManager.getCache(CacheConfig.PRODUCTOS));
+        variantes.values().stream().filter(variante -> variante.getProduct() != null)
+                .forEach(variante -> productos.evict(variante.getProduct().getId()));
+        // Una variante que se queda sin stock sale del filtro de existencias
+        facetService.agotarVariantes(variantes.values().stream()
+                .filter(variante -> variante.getProduct() != null && variante.getStock() <= 0)
+                .collect(Collectors.toMap(VariantEntity::getId, variante -> variante.getProduct().getId())));
+
+        OrderEntity orden = new OrderEntity();
+        orden.setUser(usuario.get());
+        orden.setOrderDate(new Date());
+        orden.setStatus(ESTADO_CREADA);
+        orden.setOrderDetails(new ArrayList<>(cantidades.size()));
+        for (Map.Entry<Long, Integer> linea : cantidades.entrySet()) {
+            VariantEntity variante = variantes.get(linea.getKey());
+            OrderDetailEntity detalle = new OrderDetailEntity();
+            detalle.setOrder(orden);
+            detalle.setVariant(variante);
+            detalle.setProduct(variante.getProduct());
+            detalle.setQuantity(linea.getValue());
+            detalle.setPrice(variante.getProduct() != null ? variante.getProduct().getPrice() : null);
+            orden.getOrderDetails().add(detalle);
+        }
+        return orderRepository.save(orden);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderEntity obtenerOrden(Long usuarioId, Long ordenId) throws EntityNotFoundException {
+        Optional<OrderEntity> orden = orderRepository.findWithDetailsByIdAndUserId(ordenId, usuarioId);
+        if (orden.isEmpty()) {
+            throw new EntityNotFoundException("Orden no encontrada");
+        }
+        return orden.get();
+    }
+
+    private static Map<Long, Integer> agruparPorVariante(List<OrderDetailEntity> detalles)
+            throws IllegalOperationException {
+        if (detalles == null || detalles.isEmpty()) {
+            throw new IllegalOperationException("La orden debe tener al menos un producto");
+        }
+        Map<Long, Integer> cantidades = new TreeMap<>();
+        for (OrderDetailEntity detalle : detalles) {
+            if (detalle.getVariant() == null || detalle.getVariant().getId() == null) {
+                throw new IllegalOperationException("Cada detalle debe indicar la variante");
+            }
+            if (detalle.getQuantity() == null || detalle.getQuantity() <= 0) {
+                throw new IllegalOperationException("La cantidad debe ser mayor a cero");
+            }
+            cantidades.merge(detalle.getVariant().getId(), detalle.getQuantity(), Integer::sum);
+        }
+        return cantidades;
+    }
+}
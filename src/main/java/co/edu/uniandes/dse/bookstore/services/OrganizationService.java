@@ -27,10 +27,14 @@ package co.edu.uniandes.dse.bookstore.services;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
 import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
 import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
@@ -72,22 +76,25 @@ public class OrganizationService {
 	}
 
 	/**
-	 * Obtener todas las organizaciones existentes en la base de datos.
+	 * Obtener todas las organizaciones existentes en la base de datos, con su
+	 * premio, en una sola consulta.
 	 *
 	 * @return una lista de organizaciones.
 	 */
-	@Transactional
+	@Transactional(readOnly = true)
 	public List<OrganizationEntity> getOrganizations() {
 		log.info("Inicia proceso de consultar todas las organizaciones");
-		return organizationRepository.findAll();
+		return organizationRepository.findAllWithPrize();
 	}
 
 	/**
-	 * Obtener una organizacion por medio de su id.
+	 * Obtener una organizacion por medio de su id. El resultado (con su premio) se
+	 * guarda en caché.
 	 *
 	 * @param organizationId: id de la organizacion para ser buscada.
 	 * @return la organizacion solicitada por medio de su id.
 	 */
+	@Cacheable(CacheConfig.ORGANIZATIONS)
 	@Transactional
 	public OrganizationEntity getOrganization(Long organizationId) throws EntityNotFoundException {
 		log.info("Inicia proceso de consultar organizacion con id = {0}", organizationId);
@@ -96,6 +103,9 @@ public class OrganizationService {
 		if (organizationEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.ORGANIZATION_NOT_FOUND);
 
+		// El premio es el lado inverso de un uno a uno, perezoso gracias a la mejora
+		// de bytecode: solo esta vista lo necesita
+		Hibernate.initialize(organizationEntity.get().getPrize());
 		log.info("Termina proceso de consultar organizacion con id = {0}", organizationId);
 		return organizationEntity.get();
 	}
@@ -109,6 +119,7 @@ public class OrganizationService {
 	 *                        ejemplo el nombre.
 	 * @return la organizacion con los cambios actualizados en la base de datos.
 	 */
+	@CacheEvict(cacheNames = CacheConfig.ORGANIZATIONS, key = "#organizationId")
 	@Transactional
 	public OrganizationEntity updateOrganization(Long organizationId, OrganizationEntity organization)
 			throws EntityNotFoundException {
@@ -128,6 +139,7 @@ public class OrganizationService {
 	 * @param organizationId: id de la organizacion a borrar
 	 * @throws BusinessLogicException si la organizacion tiene un premio asociado.
 	 */
+	@CacheEvict(cacheNames = CacheConfig.ORGANIZATIONS, key = "#organizationId")
 	@Transactional
 	public void deleteOrganization(Long organizationId) throws EntityNotFoundException, IllegalOperationException {
 		log.info("Inicia proceso de borrar organizacion con id = {0}", organizationId);
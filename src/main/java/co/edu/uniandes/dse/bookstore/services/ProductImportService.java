@@ -0,0 +1,192 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import co.edu.uniandes.dse.bookstore.dto.ImportErrorDTO;
+import co.edu.uniandes.dse.bookstore.dto.ImportResultDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductDTO;
+import co.edu.uniandes.dse.bookstore.dto.VariantDTO;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Importación masiva de productos (con fotos, videos y variantes) desde NDJSON:
+ * un producto por línea. La entrada se lee de forma incremental y se guarda en
+ * lotes, cada uno en su propia transacción, para que la memoria no dependa del
+ * tamaño del archivo.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private static final int TAMANO_LOTE = 1000;
+    private static final int MAXIMO_ERRORES_REPORTADOS = 1000;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private FacetService facetService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ImportResultDTO importar(InputStream entrada) throws IOException {
+        long inicio = System.currentTimeMillis();
+        ObjectReader lector = objectMapper.readerFor(ProductDTO.class);
+        ImportResultDTO resultado = new ImportResultDTO();
+        List<Fila> lote = new ArrayList<>(TAMANO_LOTE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        String linea;
+        long numero = 0;
+        while ((linea = reader.readLine()) != null) {
+            numero++;
+            if (linea.isBlank()) {
+                continue;
+            }
+            resultado.setTotal(resultado.getTotal() + 1);
+            try {
+                ProductDTO producto = lector.readValue(linea);
+                validar(producto);
+                lote.add(new Fila(numero, producto));
+            } catch (JsonProcessingException e) {
+                registrarError(resultado, numero, "JSON inválido: " + e.getOriginalMessage());
+            } catch (IllegalOperationException e) {
+                registrarError(resultado, numero, e.getMessage());
+            }
+            if (lote.size() == TAMANO_LOTE) {
+                guardar(lote, resultado);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            guardar(lote, resultado);
+        }
+        log.info("Importación: {} de {} productos en {} ms", resultado.getImported(), resultado.getTotal(),
+                System.currentTimeMillis() - inicio);
+        return resultado;
+    }
+
+    /**
+     * Guarda el lote en una transacción. Si falla, se reintenta fila por fila para
+     * guardar las válidas y reportar solo las que fallan. Cualquier excepción de
+     * una fila (no solo las de acceso a datos) se reporta contra su línea, para
+     * que una fila inesperada no detenga la importación a medias.
+     */
+    private void guardar(List<Fila> lote, ImportResultDTO resultado) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistir(lote));
+            resultado.setImported(resultado.getImported() + lote.size());
+            return;
+        } catch (RuntimeException e) {
+            log.debug("Falló el lote que inicia en la línea {}; se reintenta por fila", lote.get(0).linea(), e);
+        }
+        for (Fila fila : lote) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persistir(List.of(fila)));
+                resultado.setImported(resultado.getImported() + 1);
+            } catch (DataAccessException | PersistenceException e) {
+                registrarError(resultado, fila.linea(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Error inesperado al importar la línea {}", fila.linea(), e);
+                registrarError(resultado, fila.linea(), "No fue posible guardar el producto: " + e);
+            }
+        }
+    }
+
+    /**
+     * Las entidades se crean dentro de la transacción, de modo que un reintento no
+     * reutiliza ids asignados en una transacción revertida.
+     */
+    private void persistir(List<Fila> filas) {
+        List<ProductEntity> productos = new ArrayList<>(filas.size());
+        for (Fila fila : filas) {
+            ProductEntity producto = productMapper.toEntity(fila.producto());
+            producto.setId(null);
+            producto.setCategory(fila.producto().getCategory() != null
+                    ? entityManager.getReference(CategoryEntity.class, fila.producto().getCategory().getId())
+                    : null);
+            if (producto.getPhotos() != null) {
+                producto.getPhotos().forEach(foto -> foto.setId(null));
+            }
+            if (producto.getVideos() != null) {
+                producto.getVideos().forEach(video -> video.setId(null));
+            }
+            if (producto.getVariants() != null) {
+                producto.getVariants().forEach(variante -> variante.setId(null));
+            }
+            entityManager.persist(producto);
+            productos.add(producto);
+        }
+        entityManager.flush();
+        searchService.indexarProductos(productos);
+        facetService.indexarProductos(productos.stream().map(ProductEntity::getId).toList());
+    }
+
+    private static void validar(ProductDTO producto) throws IllegalOperationException {
+        if (producto.getName() == null || producto.getName().isBlank()) {
+            throw new IllegalOperationException("El nombre del producto es obligatorio");
+        }
+        if (producto.getPrice() == null || producto.getPrice() < 0) {
+            throw new IllegalOperationException("El precio del producto debe ser mayor o igual a cero");
+        }
+        if (producto.getCategory() != null && producto.getCategory().getId() == null) {
+            throw new IllegalOperationException("La categoría debe indicar su id");
+        }
+        if (producto.getPhotos() != null && producto.getPhotos().contains(null)) {
+            throw new IllegalOperationException("Las fotos no pueden tener elementos nulos");
+        }
+        if (producto.getVideos() != null && producto.getVideos().contains(null)) {
+            throw new IllegalOperationException("Los videos no pueden tener elementos nulos");
+        }
+        if (producto.getVariants() != null) {
+            for (VariantDTO variante : producto.getVariants()) {
+                if (variante == null) {
+                    throw new IllegalOperationException("Las variantes no pueden tener elementos nulos");
+                }
+                if (variante.getStock() != null && variante.getStock() < 0) {
+                    throw new IllegalOperationException("El inventario de una variante no puede ser negativo");
+                }
+            }
+        }
+    }
+
+    private static void registrarError(ImportResultDTO resultado, long linea, String mensaje) {
+        resultado.setFailed(resultado.getFailed() + 1);
+        if (resultado.getErrors().size() < MAXIMO_ERRORES_REPORTADOS) {
+            resultado.getErrors().add(new ImportErrorDTO(linea, mensaje));
+        }
+    }
+
+    private record Fila(long linea, ProductDTO producto) {
+    }
+}
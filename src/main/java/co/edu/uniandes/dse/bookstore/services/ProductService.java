@@ -1,52 +1,233 @@
 package co.edu.uniandes.dse.bookstore.services;
 
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
 import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private FacetService facetService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional(readOnly = true)
     public List<ProductEntity> obtenerProductos() {
         return productRepository.findAll();
     }
 
+    /**
+     * Vista de detalle: la categoría y las fotos, videos y variantes quedan
+     * cargadas con un número fijo de consultas, independiente del tamaño de la página.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductEntity> obtenerProductos(Pageable pageable) {
+        Page<ProductEntity> productos = productRepository.findAllWithCategory(pageable);
+        cargarColecciones(productos.getContent());
+        return productos;
+    }
+
+    /**
+     * Paginación por llave (keyset): retorna hasta {@code limite} productos con id
+     * mayor a {@code despuesDe}, sin ejecutar un COUNT ni un OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductEntity> obtenerProductosDespuesDe(Long despuesDe, int limite) {
+        List<ProductEntity> productos = productRepository.findWithCategoryAfter(despuesDe, Limit.of(limite));
+        cargarColecciones(productos);
+        return productos;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductSummaryDTO> obtenerResumenProductos(Pageable pageable) {
+        return productRepository.findSummaries(pageable);
+    }
+
+    /**
+     * Lee el promedio y el número de reseñas mantenidos en el producto, sin
+     * recorrer sus reseñas.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductSummaryDTO> obtenerResumenProductosPorCalificacion(Pageable pageable) {
+        return productRepository.findSummariesByRating(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDTO> obtenerResumenProductosDespuesDe(Long despuesDe, int limite) {
+        return productRepository.findSummariesAfter(despuesDe, Limit.of(limite));
+    }
+
+    /**
+     * Se guarda en caché con fotos, videos y variantes ya cargadas, de modo que la
+     * instancia desconectada se pueda mapear sin volver a la base de datos.
+     */
+    @Cacheable(CacheConfig.PRODUCTOS)
     @Transactional(readOnly = true)
     public ProductEntity obtenerProducto(Long id) throws EntityNotFoundException {
         Optional<ProductEntity> producto = productRepository.findById(id);
         if (producto.isEmpty()) {
             throw new EntityNotFoundException("Producto no encontrado");
         }
+        cargarColecciones(List.of(producto.get()));
         return producto.get();
     }
 
+    /**
+     * Productos con los ids dados, en cualquier orden; los ids que no existen se
+     * omiten. La categoría y las colecciones se cargan con un número fijo de
+     * consultas, independiente del número de ids.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductEntity> obtenerProductosPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<ProductEntity> productos = productRepository.findWithCategoryByIdIn(ids);
+        cargarColecciones(productos);
+        return productos;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDTO> obtenerResumenProductosPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findSummariesByIdIn(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSummaryDTO obtenerResumenProducto(Long id) throws EntityNotFoundException {
+        Optional<ProductSummaryDTO> producto = productRepository.findSummaryById(id);
+        if (producto.isEmpty()) {
+            throw new EntityNotFoundException("Producto no encontrado");
+        }
+        return producto.get();
+    }
+
+    /**
+     * Versión del producto para las peticiones condicionales: una consulta por id
+     * que no carga la entidad ni sus colecciones.
+     */
+    @Transactional(readOnly = true)
+    public VersionDTO obtenerVersionProducto(Long id) throws EntityNotFoundException {
+        Optional<VersionDTO> version = productRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            throw new EntityNotFoundException("Producto no encontrado");
+        }
+        return version.get();
+    }
+
+    /**
+     * Versión de un producto ya cargado con sus variantes, con el mismo criterio
+     * de {@link ProductRepository#findVersionById}: la fecha más reciente entre
+     * el producto y sus variantes.
+     */
+    public VersionDTO versionDe(ProductEntity producto) {
+        Instant modificado = producto.getUpdatedAt();
+        if (producto.getVariants() != null) {
+            for (VariantEntity variante : producto.getVariants()) {
+                if (variante.getUpdatedAt() != null && variante.getUpdatedAt().isAfter(modificado)) {
+                    modificado = variante.getUpdatedAt();
+                }
+            }
+        }
+        return new VersionDTO(producto.getVersion(), modificado);
+    }
+
+    @Transactional(readOnly = true)
+    public VersionDTO obtenerVersionCatalogo() {
+        return productRepository.findCatalogVersion();
+    }
+
     @Transactional
     public ProductEntity crearProducto(ProductEntity producto) {
-        return productRepository.save(producto);
+        ProductEntity creado = productRepository.save(producto);
+        searchService.indexarProducto(creado);
+        facetService.indexarProductos(List.of(creado.getId()));
+        return creado;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTOS, key = "#id")
     @Transactional
     public ProductEntity actualizarProducto(Long id, ProductEntity producto) throws EntityNotFoundException {
-        if (!productRepository.existsById(id)) {
+        Optional<ProductEntity> actual = productRepository.findById(id);
+        if (actual.isEmpty()) {
             throw new EntityNotFoundException("Producto no encontrado");
         }
+        // La versión que trae el producto es la que leyó el cliente (If-Match)
+        if (producto.getVersion() != null && !producto.getVersion().equals(actual.get().getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ProductEntity.class, id);
+        }
         producto.setId(id);
-        return productRepository.save(producto);
+        producto.setVersion(actual.get().getVersion());
+        producto.copyRatingsFrom(actual.get());
+        ProductEntity actualizado = productRepository.save(producto);
+        searchService.indexarProducto(actualizado);
+        facetService.indexarProductos(List.of(id));
+        return actualizado;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTOS, key = "#id")
     @Transactional
     public void eliminarProducto(Long id) throws EntityNotFoundException {
         if (!productRepository.existsById(id)) {
             throw new EntityNotFoundException("Producto no encontrado");
         }
         productRepository.deleteById(id);
+        searchService.eliminarProducto(id);
+        facetService.eliminarProducto(id);
+    }
+
+    /**
+     * Recorre todo el catálogo con un cursor y entrega los productos en lotes, con
+     * sus colecciones cargadas. Después de cada lote se limpia el contexto de
+     * persistencia, de modo que la memoria no crece con el número de filas.
+     */
+    @Transactional(readOnly = true)
+    public void recorrerProductos(int tamanoLote, Consumer<List<ProductEntity>> consumidor) {
+        try (Stream<ProductEntity> productos = productRepository.streamAllWithCategory()) {
+            Lotes.recorrer(productos, tamanoLote, lote -> {
+                cargarColecciones(lote);
+                consumidor.accept(lote);
+                entityManager.clear();
+            });
+        }
+    }
+
+    private void cargarColecciones(List<ProductEntity> productos) {
+        if (productos.isEmpty()) {
+            return;
+        }
+        productRepository.fetchPhotos(productos);
+        productRepository.fetchVideos(productos);
+        productRepository.fetchVariants(productos);
     }
 } 
\ No newline at end of file
@@ -24,13 +24,22 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.bookstore.services;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.CursorPageDTO;
 import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
@@ -50,6 +59,12 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class ReviewService {
 
+	private static final int MIN_RATING = 1;
+	private static final int MAX_RATING = 5;
+
+	public static final String ORDER_RECENT = "recent";
+	public static final String ORDER_RATING = "rating";
+
 	@Autowired
 	ReviewRepository reviewRepository;
 
@@ -64,59 +79,107 @@ public class ReviewService {
 	 * @param productId   id del Producto el cual sera padre del nuevo Review.
 	 * @return Objeto de ReviewEntity con los datos nuevos y su ID.
 	 * @throws EntityNotFoundException si el producto no existe.
+	 * @throws IllegalOperationException si la calificación no está entre 1 y 5.
 	 *
 	 */
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTOS, key = "#productId")
 	@Transactional
-	public ReviewEntity createReview(Long productId, ReviewEntity reviewEntity) throws EntityNotFoundException {
+	public ReviewEntity createReview(Long productId, ReviewEntity reviewEntity)
+			throws EntityNotFoundException, IllegalOperationException {
 		log.info("Inicia proceso de crear review");
+		validateRating(reviewEntity.getRating());
 		Optional<ProductEntity> productEntity = productRepository.findById(productId);
 		if (productEntity.isEmpty())
 			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
 
 		reviewEntity.setProduct(productEntity.get());
+		ReviewEntity saved = reviewRepository.save(reviewEntity);
+		productRepository.ajustarCalificaciones(productId, saved.getRating(), 1, Instant.now());
 
 		log.info("Termina proceso de creación del review");
-		return reviewRepository.save(reviewEntity);
+		return saved;
 	}
 
 	/**
-	 * Obtiene la lista de los registros de Review que pertenecen a un Producto.
+	 * Obtiene la lista de los registros de Review que pertenecen a un Producto,
+	 * del más antiguo al más reciente.
 	 *
 	 * @param productId id del Producto el cual es padre de los Reviews.
 	 * @return Colección de objetos de ReviewEntity.
 	 */
 
-	@Transactional
+	@Transactional(readOnly = true)
 	public List<ReviewEntity> getReviews(Long productId) throws EntityNotFoundException {
 		log.info("Inicia proceso de consultar los reviews asociados al producto con id = {0}", productId);
-		Optional<ProductEntity> productEntity = productRepository.findById(productId);
-		if (productEntity.isEmpty())
+		if (!productRepository.existsById(productId))
 			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
 
 		log.info("Termina proceso de consultar los reviews asociados al producto con id = {0}", productId);
-		return productEntity.get().getReviews();
+		return reviewRepository.findByProductId(productId, Sort.by("id"));
 	}
 
 	/**
-	 * Obtiene los datos de una instancia de Review a partir de su ID. La existencia
-	 * del elemento padre Producto se debe garantizar.
+	 * Obtiene una página de los Reviews de un Producto con paginación por cursor:
+	 * cada página es una consulta acotada sobre los índices de la reseña, sin
+	 * COUNT ni desplazamiento, sin importar cuántas reseñas tenga el producto.
+	 *
+	 * @param productId id del Producto el cual es padre de los Reviews.
+	 * @param order     {@code recent} (más recientes primero) o {@code rating}
+	 *                  (mejor calificadas primero).
+	 * @param minRating calificación mínima incluida.
+	 * @param maxRating calificación máxima incluida.
+	 * @param cursor    cursor devuelto por la página anterior, o nulo para la
+	 *                  primera.
+	 * @param limit     número máximo de reseñas de la página.
+	 * @return Página de objetos de ReviewEntity con el cursor de la siguiente.
+	 * @throws IllegalOperationException si el orden, el filtro o el cursor no son
+	 *                                   válidos.
+	 */
+	@Transactional(readOnly = true)
+	public CursorPageDTO<ReviewEntity> getReviews(Long productId, String order, int minRating, int maxRating,
+			String cursor, int limit) throws EntityNotFoundException, IllegalOperationException {
+		log.info("Inicia proceso de consultar una página de reviews del producto con id = {0}", productId);
+		validateRating(minRating);
+		validateRating(maxRating);
+		if (minRating > maxRating)
+			throw new IllegalOperationException(ErrorMessage.INVALID_RATING_FILTER);
+		if (!ORDER_RECENT.equals(order) && !ORDER_RATING.equals(order))
+			throw new IllegalOperationException(ErrorMessage.INVALID_REVIEW_ORDER);
+
+		// Sin cursor se empieza antes de la primera reseña posible
+		long[] after = cursor == null ? new long[] { MAX_RATING + 1, Long.MAX_VALUE } : decodeCursor(order, cursor);
+		// Se pide una reseña adicional para saber si existe una página siguiente
+		Limit rows = Limit.of(limit + 1);
+		List<ReviewEntity> reviews = ORDER_RATING.equals(order)
+				? reviewRepository.findPageByRating(productId, minRating, maxRating, (int) after[0], after[1], rows)
+				: reviewRepository.findPageByRecency(productId, minRating, maxRating, after[1], rows);
+		// Solo una primera página vacía requiere distinguir si el producto existe
+		if (reviews.isEmpty() && cursor == null && !productRepository.existsById(productId))
+			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
+
+		log.info("Termina proceso de consultar una página de reviews del producto con id = {0}", productId);
+		if (reviews.size() <= limit)
+			return new CursorPageDTO<>(reviews, null);
+		List<ReviewEntity> page = new ArrayList<>(reviews.subList(0, limit));
+		return new CursorPageDTO<>(page, encodeCursor(order, page.get(limit - 1)));
+	}
+
+	/**
+	 * Obtiene los datos de una instancia de Review a partir de su ID, siempre que
+	 * pertenezca al Producto indicado.
 	 *
 	 * @param productId   El id del Producto buscado
 	 * @param reviewId     Identificador de la Reseña a consultar
 	 * @return Instancia de ReviewEntity con los datos del Review consultado.
 	 *
 	 */
-	@Transactional
+	@Transactional(readOnly = true)
 	public ReviewEntity getReview(Long productId, Long reviewId) throws EntityNotFoundException {
 		log.info("Inicia proceso de consultar el review con id = {0} del producto con id = " + productId,
 				reviewId);
-		Optional<ProductEntity> productEntity = productRepository.findById(productId);
-		if (productEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
-
-		Optional<ReviewEntity> reviewEntity = reviewRepository.findById(reviewId);
+		Optional<ReviewEntity> reviewEntity = reviewRepository.findByProductIdAndId(productId, reviewId);
 		if (reviewEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.REVIEW_NOT_FOUND);
+			throw reviewNotFound(productId);
 
 		log.info("Termina proceso de consultar el review con id = {0} del producto con id = " + productId,
 				reviewId);
@@ -130,22 +193,30 @@ public class ReviewService {
 	 * @param productId   id del Producto el cual sera padre del Review actualizado.
 	 * @param reviewId     id de la review que será actualizada.
 	 * @return Instancia de ReviewEntity con los datos actualizados.
+	 * @throws EntityNotFoundException   si la reseña no existe en el producto.
+	 * @throws IllegalOperationException si la calificación no está entre 1 y 5.
 	 *
 	 */
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTOS, key = "#productId")
 	@Transactional
-	public ReviewEntity updateReview(Long productId, Long reviewId, ReviewEntity review) throws EntityNotFoundException {
+	public ReviewEntity updateReview(Long productId, Long reviewId, ReviewEntity review)
+			throws EntityNotFoundException, IllegalOperationException {
 		log.info("Inicia proceso de actualizar el review con id = {0} del producto con id = " + productId,
 				reviewId);
-		Optional<ProductEntity> productEntity = productRepository.findById(productId);
-		if (productEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
-
-		Optional<ReviewEntity> reviewEntity = reviewRepository.findById(reviewId);
+		validateRating(review.getRating());
+		Optional<ReviewEntity> reviewEntity = reviewRepository.findWithLockByProductIdAndId(productId, reviewId);
 		if (reviewEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.REVIEW_NOT_FOUND);
+			throw reviewNotFound(productId);
+
+		int previousRating = reviewEntity.get().getRating();
+		if (previousRating != review.getRating()) {
+			Instant now = Instant.now();
+			productRepository.ajustarCalificaciones(productId, previousRating, -1, now);
+			productRepository.ajustarCalificaciones(productId, review.getRating(), 1, now);
+		}
 
 		review.setId(reviewId);
-		review.setProduct(productEntity.get());
+		review.setProduct(reviewEntity.get().getProduct());
 		log.info("Termina proceso de actualizar el review con id = {0} del producto con id = " + productId,
 				reviewId);
 		return reviewRepository.save(review);
@@ -160,23 +231,52 @@ public class ReviewService {
 	 * @throws IllegalOperationException 
 	 *
 	 */
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTOS, key = "#productId")
 	@Transactional
 	public void deleteReview(Long productId, Long reviewId) throws EntityNotFoundException, IllegalOperationException {
 		log.info("Inicia proceso de borrar el review con id = {0} del producto con id = " + productId,
 				reviewId);
-		Optional<ProductEntity> productEntity = productRepository.findById(productId);
-		if (productEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.CLOTHING_NOT_FOUND);
-
-		Optional<ReviewEntity> reviewEntity = reviewRepository.findById(reviewId);
+		Optional<ReviewEntity> reviewEntity = reviewRepository.findWithLockByProductIdAndId(productId, reviewId);
 		if (reviewEntity.isEmpty())
-			throw new EntityNotFoundException(ErrorMessage.REVIEW_NOT_FOUND);
-		
-		if(!reviewEntity.get().getProduct().getId().equals(productId))
-			throw new IllegalOperationException(ErrorMessage.REVIEW_NOT_ASSOCIATED_TO_CLOTHING);
-		
-		reviewRepository.deleteById(reviewId);
+			throw reviewNotFound(productId);
+
+		productRepository.ajustarCalificaciones(productId, reviewEntity.get().getRating(), -1, Instant.now());
+		reviewRepository.delete(reviewEntity.get());
 		log.info("Termina proceso de borrar el review con id = {0} del producto con id = " + productId,
 				reviewId);
 	}
+
+	/**
+	 * Las consultas se hacen por producto y reseña a la vez; solo cuando no hay
+	 * resultado se consulta el producto para dar el mensaje adecuado.
+	 */
+	private EntityNotFoundException reviewNotFound(Long productId) {
+		return new EntityNotFoundException(productRepository.existsById(productId) ? ErrorMessage.REVIEW_NOT_FOUND
+				: ErrorMessage.CLOTHING_NOT_FOUND);
+	}
+
+	/**
+	 * El cursor es opaco para el cliente: codifica el orden y la posición (calificación
+	 * e id) de la última reseña entregada.
+	 */
+	private static String encodeCursor(String order, ReviewEntity last) {
+		String position = order + ":" + last.getRating() + ":" + last.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static long[] decodeCursor(String order, String cursor) throws IllegalOperationException {
+		try {
+			String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+			if (position.length != 3 || !position[0].equals(order))
+				throw new IllegalOperationException(ErrorMessage.INVALID_CURSOR);
+			return new long[] { Integer.parseInt(position[1]), Long.parseLong(position[2]) };
+		} catch (IllegalArgumentException e) {
+			throw new IllegalOperationException(ErrorMessage.INVALID_CURSOR);
+		}
+	}
+
+	private void validateRating(Integer rating) throws IllegalOperationException {
+		if (rating == null || rating < MIN_RATING || rating > MAX_RATING)
+			throw new IllegalOperationException(ErrorMessage.INVALID_RATING);
+	}
 }
@@ -0,0 +1,407 @@
+package co.edu.uniandes.dse.bookstore.services;
+
+import co.edu.uniandes.dse.bookstore.dto.SearchResultDTO;
+import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.repositories.ClothingRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+
+/**
+ * Índice invertido en memoria (Lucene) sobre el nombre, la descripción y la
+ * categoría de los productos y el nombre, la descripción y la marca de las
+ * prendas.
+ *
+ * El índice se reconstruye al arrancar la aplicación y luego se mantiene de
+ * forma incremental desde ProductService y ClothingService: el documento se
+ * arma dentro de la transacción del servicio y se escribe en el índice solo
+ * después del commit, de modo que un rollback no deja rastro en las búsquedas.
+ *
+ * La reconstrucción, como la de {@link FacetService}, llena un índice nuevo en
+ * su propio directorio mientras las búsquedas siguen usando el anterior, y lo
+ * publica al terminar. Las escrituras confirmadas entretanto se aplican al
+ * índice en uso y se repiten sobre el nuevo antes de publicarlo, así que no se
+ * pierden ni quedan con los datos del lote.
+ */
+@Slf4j
+@Service
+public class SearchService {
+
+    public static final String TIPO_PRODUCTO = "producto";
+    public static final String TIPO_PRENDA = "prenda";
+
+    private static final String CAMPO_UID = "uid";
+    private static final String CAMPO_TIPO = "type";
+    private static final String CAMPO_ID = "id";
+    private static final String CAMPO_NOMBRE = "name";
+    private static final String CAMPO_DESCRIPCION = "description";
+    private static final String CAMPO_GRUPO = "group";
+
+    private static final int LOTE_RECONSTRUCCION = 5_000;
+
+    private final Analyzer analyzer = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream filtros = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, filtros);
+        }
+    };
+
+    // Se reemplaza completo al reconstruir, para no exponer un índice a medio llenar
+    private volatile Indice indice;
+
+    /*
+     * Las escrituras toman el candado compartido y la publicación de un índice
+     * reconstruido el exclusivo: ninguna escritura queda en el índice que se
+     * descarta. Mientras hay una reconstrucción en curso, las escrituras también
+     * se encolan en pendientes para repetirlas sobre el índice nuevo.
+     */
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+    private Queue<Escritura> pendientes;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ClothingRepository clothingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public SearchService() throws IOException {
+        indice = crearIndice();
+    }
+
+    @PreDestroy
+    public void cerrar() throws IOException {
+        indice.cerrar();
+    }
+
+    /**
+     * Búsqueda ordenada por relevancia. Cada palabra de la consulta debe aparecer
+     * en el documento, ya sea exacta, como prefijo o con hasta dos errores de
+     * digitación; las coincidencias exactas en el nombre pesan más.
+     *
+     * @param tipo opcional, {@link #TIPO_PRODUCTO} o {@link #TIPO_PRENDA}
+     */
+    public Page<SearchResultDTO> buscar(String texto, String tipo, Pageable pageable) {
+        Query consulta = construirConsulta(texto, tipo);
+        if (consulta == null) {
+            return Page.empty(pageable);
+        }
+        try {
+            SearcherManager searcherManager = indice.searcherManager();
+            IndexSearcher searcher;
+            try {
+                searcher = searcherManager.acquire();
+            } catch (AlreadyClosedException e) {
+                // Se publicó un índice reconstruido entre la lectura y la adquisición
+                searcherManager = indice.searcherManager();
+                searcher = searcherManager.acquire();
+            }
+            try {
+                int hasta = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+                TopDocs docs = searcher.search(consulta, hasta);
+                List<SearchResultDTO> resultados = new ArrayList<>();
+                for (int i = (int) pageable.getOffset(); i < docs.scoreDocs.length; i++) {
+                    ScoreDoc hit = docs.scoreDocs[i];
+                    Document doc = searcher.storedFields().document(hit.doc);
+                    resultados.add(new SearchResultDTO(doc.get(CAMPO_TIPO), doc.getField(CAMPO_ID).numericValue().longValue(),
+                            doc.get(CAMPO_NOMBRE), doc.get(CAMPO_DESCRIPCION), hit.score));
+                }
+                return new PageImpl<>(resultados, pageable, docs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void indexarProducto(ProductEntity producto) {
+        actualizarDespuesDelCommit(List.of(new Escritura(uid(TIPO_PRODUCTO, producto.getId()), documento(producto))));
+    }
+
+    /**
+     * Indexa un lote de productos con una sola sincronización de transacción.
+     */
+    public void indexarProductos(List<ProductEntity> productos) {
+        actualizarDespuesDelCommit(productos.stream()
+                .map(producto -> new Escritura(uid(TIPO_PRODUCTO, producto.getId()), documento(producto))).toList());
+    }
+
+    public void indexarPrenda(ClothingEntity prenda) {
+        actualizarDespuesDelCommit(List.of(new Escritura(uid(TIPO_PRENDA, prenda.getId()), documento(prenda))));
+    }
+
+    public void eliminarProducto(Long id) {
+        actualizarDespuesDelCommit(List.of(new Escritura(uid(TIPO_PRODUCTO, id), null)));
+    }
+
+    public void eliminarPrenda(Long id) {
+        actualizarDespuesDelCommit(List.of(new Escritura(uid(TIPO_PRENDA, id), null)));
+    }
+
+    /**
+     * La búsqueda es auxiliar: si el índice no se puede construir al arrancar, la
+     * aplicación sigue en pie con el índice vacío.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirAlIniciar() {
+        try {
+            reconstruir();
+        } catch (IOException | DataAccessException e) {
+            log.error("No fue posible reconstruir el índice de búsqueda", e);
+        }
+    }
+
+    /**
+     * Construye un índice nuevo recorriendo el catálogo por llave, en lotes y
+     * cada uno en su propia transacción, para no retener todo en memoria, y lo
+     * publica al terminar. Dos reconstrucciones no se solapan.
+     */
+    public synchronized void reconstruir() throws IOException {
+        long inicio = System.currentTimeMillis();
+        Queue<Escritura> confirmadas = new ConcurrentLinkedQueue<>();
+        conCandadoExclusivo(() -> pendientes = confirmadas);
+        Indice nuevo = null;
+        Indice anterior = null;
+        try {
+            nuevo = crearIndice();
+            indexarPorLotes(nuevo.writer(), despuesDe -> productRepository
+                    .findWithCategoryAfter(despuesDe, Limit.of(LOTE_RECONSTRUCCION))
+                    .stream().map(SearchService::documento).toList());
+            indexarPorLotes(nuevo.writer(), despuesDe -> clothingRepository
+                    .findByIdGreaterThanOrderById(despuesDe, Limit.of(LOTE_RECONSTRUCCION))
+                    .stream().map(SearchService::documento).toList());
+            candado.writeLock().lock();
+            try {
+                for (Escritura escritura : confirmadas) {
+                    escritura.aplicar(nuevo.writer());
+                }
+                nuevo.writer().commit();
+                nuevo.searcherManager().maybeRefreshBlocking();
+                anterior = indice;
+                indice = nuevo;
+            } finally {
+                candado.writeLock().unlock();
+            }
+        } finally {
+            conCandadoExclusivo(() -> pendientes = null);
+            Indice descartado = anterior != null ? anterior : nuevo;
+            if (descartado != null) {
+                descartado.cerrar();
+            }
+        }
+        log.info("Índice de búsqueda reconstruido con {} documentos en {} ms", nuevo.writer().getDocStats().numDocs,
+                System.currentTimeMillis() - inicio);
+    }
+
+    private void indexarPorLotes(IndexWriter writer, LongFunction<List<Document>> siguienteLote) throws IOException {
+        long despuesDe = 0;
+        List<Document> lote;
+        do {
+            final long cursor = despuesDe;
+            lote = transactionTemplate.execute(status -> siguienteLote.apply(cursor));
+            writer.addDocuments(lote);
+            if (!lote.isEmpty()) {
+                despuesDe = lote.get(lote.size() - 1).getField(CAMPO_ID).numericValue().longValue();
+            }
+        } while (lote.size() == LOTE_RECONSTRUCCION);
+    }
+
+    private void actualizarDespuesDelCommit(List<Escritura> escrituras) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            escribir(escrituras);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                escribir(escrituras);
+            }
+        });
+    }
+
+    private void escribir(List<Escritura> escrituras) {
+        candado.readLock().lock();
+        try {
+            Indice actual = indice;
+            for (Escritura escritura : escrituras) {
+                escritura.aplicar(actual.writer());
+            }
+            actual.searcherManager().maybeRefresh();
+            if (pendientes != null) {
+                pendientes.addAll(escrituras);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    private void conCandadoExclusivo(Runnable accion) {
+        candado.writeLock().lock();
+        try {
+            accion.run();
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    private Indice crearIndice() throws IOException {
+        IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        return new Indice(writer, new SearcherManager(writer, null));
+    }
+
+    private Query construirConsulta(String texto, String tipo) {
+        List<String> palabras = analizar(texto);
+        if (palabras.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder consulta = new BooleanQuery.Builder();
+        for (String palabra : palabras) {
+            BooleanQuery.Builder alternativas = new BooleanQuery.Builder();
+            alternativas.add(new BoostQuery(new TermQuery(new Term(CAMPO_NOMBRE, palabra)), 4f), Occur.SHOULD);
+            alternativas.add(new BoostQuery(new TermQuery(new Term(CAMPO_GRUPO, palabra)), 2f), Occur.SHOULD);
+            alternativas.add(new TermQuery(new Term(CAMPO_DESCRIPCION, palabra)), Occur.SHOULD);
+            alternativas.add(new BoostQuery(new PrefixQuery(new Term(CAMPO_NOMBRE, palabra)), 2f), Occur.SHOULD);
+            alternativas.add(new PrefixQuery(new Term(CAMPO_GRUPO, palabra)), Occur.SHOULD);
+            int ediciones = palabra.length() >= 6 ? 2 : palabra.length() >= 3 ? 1 : 0;
+            if (ediciones > 0) {
+                alternativas.add(new FuzzyQuery(new Term(CAMPO_NOMBRE, palabra), ediciones, 1), Occur.SHOULD);
+                alternativas.add(new BoostQuery(new FuzzyQuery(new Term(CAMPO_DESCRIPCION, palabra), ediciones, 1), 0.5f),
+                        Occur.SHOULD);
+            }
+            consulta.add(alternativas.build(), Occur.MUST);
+        }
+        if (tipo != null && !tipo.isBlank()) {
+            consulta.add(new TermQuery(new Term(CAMPO_TIPO, tipo.toLowerCase())), Occur.FILTER);
+        }
+        return consulta.build();
+    }
+
+    private List<String> analizar(String texto) {
+        List<String> palabras = new ArrayList<>();
+        if (texto == null) {
+            return palabras;
+        }
+        try (TokenStream tokens = analyzer.tokenStream(CAMPO_NOMBRE, texto)) {
+            CharTermAttribute termino = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                palabras.add(termino.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return palabras;
+    }
+
+    private record Indice(IndexWriter writer, SearcherManager searcherManager) {
+
+        void cerrar() throws IOException {
+            searcherManager.close();
+            writer.close();
+        }
+    }
+
+    /**
+     * Cambio de un documento; sin documento, lo elimina.
+     */
+    private record Escritura(Term uid, Document documento) {
+
+        void aplicar(IndexWriter writer) throws IOException {
+            if (documento == null) {
+                writer.deleteDocuments(uid);
+            } else {
+                writer.updateDocument(uid, documento);
+            }
+        }
+    }
+
+    private static Term uid(String tipo, Long id) {
+        return new Term(CAMPO_UID, tipo + ":" + id);
+    }
+
+    private static Document documento(ProductEntity producto) {
+        return documento(TIPO_PRODUCTO, producto.getId(), producto.getName(), producto.getDescription(),
+                producto.getCategory() != null ? producto.getCategory().getName() : null);
+    }
+
+    private static Document documento(ClothingEntity prenda) {
+        return documento(TIPO_PRENDA, prenda.getId(), prenda.getName(), prenda.getDescription(),
+                prenda.getBrand() != null ? prenda.getBrand().getName() : null);
+    }
+
+    private static Document documento(String tipo, Long id, String nombre, String descripcion, String grupo) {
+        Document doc = new Document();
+        doc.add(new StringField(CAMPO_UID, tipo + ":" + id, Field.Store.NO));
+        doc.add(new StringField(CAMPO_TIPO, tipo, Field.Store.YES));
+        doc.add(new StoredField(CAMPO_ID, id));
+        if (nombre != null) {
+            doc.add(new TextField(CAMPO_NOMBRE, nombre, Field.Store.YES));
+        }
+        if (descripcion != null) {
+            doc.add(new TextField(CAMPO_DESCRIPCION, descripcion, Field.Store.YES));
+        }
+        if (grupo != null) {
+            doc.add(new TextField(CAMPO_GRUPO, grupo, Field.Store.NO));
+        }
+        return doc;
+    }
+}
@@ -2,10 +2,13 @@ package co.edu.uniandes.dse.bookstore.services;
 
 import co.edu.uniandes.dse.bookstore.entities.UserEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.repositories.CartRepository;
+import co.edu.uniandes.dse.bookstore.repositories.OrderRepository;
 import co.edu.uniandes.dse.bookstore.repositories.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,17 +17,48 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    /**
+     * Vista completa: carrito con sus productos, órdenes con sus detalles y
+     * reseñas, cargados con un número fijo de consultas. Cada colección se
+     * consulta para todos los usuarios a la vez, sin pasar sus ids.
+     */
     @Transactional(readOnly = true)
     public List<UserEntity> obtenerUsuarios() {
-        return userRepository.findAll();
+        List<UserEntity> usuarios = userRepository.findAllWithCart();
+        if (!usuarios.isEmpty()) {
+            cartRepository.fetchItems();
+            userRepository.fetchOrders();
+            orderRepository.fetchDetails();
+            userRepository.fetchReviews();
+        }
+        return usuarios;
+    }
+
+    /**
+     * Usuarios con los ids dados, en cualquier orden; los ids que no existen se
+     * omiten. Es una sola consulta: no se cargan las órdenes ni las reseñas.
+     */
+    @Transactional(readOnly = true)
+    public List<UserEntity> obtenerUsuariosPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findWithCartByIdIn(ids);
     }
 
     @Transactional(readOnly = true)
     public UserEntity obtenerUsuario(Long id) throws EntityNotFoundException {
-        Optional<UserEntity> usuario = userRepository.findById(id);
+        Optional<UserEntity> usuario = userRepository.findWithCartById(id);
         if (usuario.isEmpty()) {
             throw new EntityNotFoundException("Usuario no encontrado");
         }
+        cargarRelaciones(id);
         return usuario.get();
     }
 
@@ -42,6 +76,19 @@ public class UserService {
         return userRepository.save(usuario);
     }
 
+    /**
+     * Plan de carga de la vista completa de un usuario, una consulta por
+     * colección: los ítems del carrito con su producto, las órdenes, sus detalles
+     * (producto, variante y operador) y las reseñas. El autor de cada reseña es
+     * el mismo usuario, que ya está cargado.
+     */
+    private void cargarRelaciones(Long usuarioId) {
+        cartRepository.fetchItemsByUserId(usuarioId);
+        userRepository.fetchOrdersById(usuarioId);
+        orderRepository.fetchDetailsByUserId(usuarioId);
+        userRepository.fetchReviewsById(usuarioId);
+    }
+
     @Transactional
     public void eliminarUsuario(Long id) throws EntityNotFoundException {
         if (!userRepository.existsById(id)) {
@@ -0,0 +1,238 @@
+-- Esquema inicial de la tienda. Hibernate solo lo valida (ddl-auto=validate):
+-- cualquier cambio en las entidades requiere una nueva migración.
+--
+-- Los ids se asignan con secuencias en bloques de 50 (allocationSize por
+-- defecto de @GeneratedValue(strategy = SEQUENCE)).
+
+create sequence brand_entity_seq start with 1 increment by 50;
+create sequence cart_entity_seq start with 1 increment by 50;
+create sequence cart_item_entity_seq start with 1 increment by 50;
+create sequence category_entity_seq start with 1 increment by 50;
+create sequence clothing_entity_seq start with 1 increment by 50;
+create sequence designer_entity_seq start with 1 increment by 50;
+create sequence operator_entity_seq start with 1 increment by 50;
+create sequence order_detail_entity_seq start with 1 increment by 50;
+create sequence order_entity_seq start with 1 increment by 50;
+create sequence organization_entity_seq start with 1 increment by 50;
+create sequence photo_entity_seq start with 1 increment by 50;
+create sequence prize_entity_seq start with 1 increment by 50;
+create sequence product_entity_seq start with 1 increment by 50;
+create sequence review_entity_seq start with 1 increment by 50;
+create sequence user_entity_seq start with 1 increment by 50;
+create sequence variant_entity_seq start with 1 increment by 50;
+create sequence video_entity_seq start with 1 increment by 50;
+
+-- Catálogo de prendas
+
+create table brand_entity (
+    id bigint not null,
+    name varchar(255),
+    primary key (id)
+);
+
+create table designer_entity (
+    id bigint not null,
+    name varchar(255),
+    birth_date date,
+    description varchar(255),
+    image varchar(255),
+    primary key (id)
+);
+
+create table clothing_entity (
+    id bigint not null,
+    name varchar(255),
+    sku varchar(255),
+    image varchar(255),
+    release_date date,
+    description varchar(255),
+    brand_id bigint,
+    primary key (id),
+    constraint fk_clothing_brand foreign key (brand_id) references brand_entity
+);
+
+create table clothing_entity_designers (
+    clothing_items_id bigint not null,
+    designers_id bigint not null,
+    constraint fk_clothing_designers_clothing foreign key (clothing_items_id) references clothing_entity,
+    constraint fk_clothing_designers_designer foreign key (designers_id) references designer_entity
+);
+
+create table organization_entity (
+    id bigint not null,
+    name varchar(255),
+    tipo tinyint check (tipo between 0 and 2),
+    primary key (id)
+);
+
+create table prize_entity (
+    id bigint not null,
+    name varchar(255),
+    description varchar(255),
+    premiation_date date,
+    designer_id bigint,
+    organization_id bigint unique,
+    primary key (id),
+    constraint fk_prize_designer foreign key (designer_id) references designer_entity,
+    constraint fk_prize_organization foreign key (organization_id) references organization_entity
+);
+
+-- Productos
+
+create table category_entity (
+    id bigint not null,
+    name varchar(255),
+    description varchar(255),
+    primary key (id)
+);
+
+create table operator_entity (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table user_entity (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table product_entity (
+    id bigint not null,
+    name varchar(255),
+    description varchar(255),
+    price float(53),
+    category_id bigint,
+    operator_id bigint,
+    rating_count bigint default 0 not null,
+    rating_sum bigint default 0 not null,
+    rating1count bigint default 0 not null,
+    rating2count bigint default 0 not null,
+    rating3count bigint default 0 not null,
+    rating4count bigint default 0 not null,
+    rating5count bigint default 0 not null,
+    rating_average float(53),
+    primary key (id),
+    constraint fk_product_category foreign key (category_id) references category_entity,
+    constraint fk_product_operator foreign key (operator_id) references operator_entity
+);
+
+create table variant_entity (
+    id bigint not null,
+    size varchar(255),
+    color varchar(255),
+    stock integer,
+    product_id bigint,
+    primary key (id),
+    constraint fk_variant_product foreign key (product_id) references product_entity
+);
+
+create table photo_entity (
+    id bigint not null,
+    url varchar(255),
+    description varchar(255),
+    product_id bigint,
+    primary key (id),
+    constraint fk_photo_product foreign key (product_id) references product_entity
+);
+
+create table video_entity (
+    id bigint not null,
+    url varchar(255),
+    description varchar(255),
+    product_id bigint,
+    primary key (id),
+    constraint fk_video_product foreign key (product_id) references product_entity
+);
+
+create table review_entity (
+    id bigint not null,
+    rating integer,
+    comment varchar(255),
+    product_id bigint,
+    clothing_id bigint,
+    user_id bigint,
+    primary key (id),
+    constraint fk_review_product foreign key (product_id) references product_entity,
+    constraint fk_review_clothing foreign key (clothing_id) references clothing_entity,
+    constraint fk_review_user foreign key (user_id) references user_entity
+);
+
+-- Carrito y órdenes
+
+create table cart_entity (
+    id bigint not null,
+    user_id bigint unique,
+    primary key (id),
+    constraint fk_cart_user foreign key (user_id) references user_entity
+);
+
+create table cart_item_entity (
+    id bigint not null,
+    quantity integer,
+    cart_id bigint not null,
+    product_id bigint not null,
+    primary key (id),
+    constraint uk_cart_item_cart_product unique (cart_id, product_id),
+    constraint fk_cart_item_cart foreign key (cart_id) references cart_entity,
+    constraint fk_cart_item_product foreign key (product_id) references product_entity
+);
+
+create table order_entity (
+    id bigint not null,
+    order_date timestamp(6),
+    status varchar(255),
+    user_id bigint,
+    operator_id bigint,
+    primary key (id),
+    constraint fk_order_user foreign key (user_id) references user_entity,
+    constraint fk_order_operator foreign key (operator_id) references operator_entity
+);
+
+create table order_detail_entity (
+    id bigint not null,
+    quantity integer,
+    price float(53),
+    order_id bigint,
+    product_id bigint,
+    variant_id bigint,
+    primary key (id),
+    constraint fk_order_detail_order foreign key (order_id) references order_entity,
+    constraint fk_order_detail_product foreign key (product_id) references product_entity,
+    constraint fk_order_detail_variant foreign key (variant_id) references variant_entity
+);
+
+-- Búsquedas por columna de los repositorios
+
+create unique index ux_clothing_sku on clothing_entity (sku);
+create unique index ux_organization_name on organization_entity (name);
+create index idx_brand_name on brand_entity (name);
+create index idx_product_rating on product_entity (rating_average, rating_count);
+create index idx_review_product_id on review_entity (product_id, id);
+create index idx_review_product_rating on review_entity (product_id, rating, id);
+
+-- Llaves foráneas. H2 crea un índice por su cuenta para cada llave que no lo
+-- tenga, pero otras bases de datos no; se declaran para que el esquema no
+-- dependa de ello. Las llaves ya cubiertas por un índice o una restricción única
+-- que empieza por la misma columna no se repiten.
+
+create index idx_clothing_brand on clothing_entity (brand_id);
+create index idx_clothing_designers_clothing on clothing_entity_designers (clothing_items_id);
+create index idx_clothing_designers_designer on clothing_entity_designers (designers_id);
+create index idx_prize_designer on prize_entity (designer_id);
+create index idx_product_category on product_entity (category_id);
+create index idx_product_operator on product_entity (operator_id);
+create index idx_variant_product on variant_entity (product_id);
+create index idx_photo_product on photo_entity (product_id);
+create index idx_video_product on video_entity (product_id);
+create index idx_review_clothing on review_entity (clothing_id);
+create index idx_review_user on review_entity (user_id);
+create index idx_cart_item_product on cart_item_entity (product_id);
+create index idx_order_user on order_entity (user_id);
+create index idx_order_operator on order_entity (operator_id);
+create index idx_order_detail_order on order_detail_entity (order_id);
+create index idx_order_detail_product on order_detail_entity (product_id);
+create index idx_order_detail_variant on order_detail_entity (variant_id);
@@ -0,0 +1,12 @@
+-- Versión y fecha de modificación de productos y prendas, publicadas como ETag y
+-- Last-Modified. Las filas existentes quedan en la versión 0 con la fecha de la
+-- migración. El índice sobre updated_at resuelve el max() de la versión de las
+-- colecciones sin recorrer la tabla.
+
+alter table product_entity add column version bigint default 0 not null;
+alter table product_entity add column updated_at timestamp(6) with time zone default current_timestamp not null;
+create index idx_product_updated_at on product_entity (updated_at);
+
+alter table clothing_entity add column version bigint default 0 not null;
+alter table clothing_entity add column updated_at timestamp(6) with time zone default current_timestamp not null;
+create index idx_clothing_updated_at on clothing_entity (updated_at);
@@ -0,0 +1,7 @@
+-- Fecha de modificación de las variantes. La compra descuenta stock sin tocar la
+-- fila del producto, así que el ETag y el Last-Modified del producto toman la
+-- fecha más reciente entre el producto y sus variantes. El máximo por producto
+-- se resuelve con idx_variant_product; el del catálogo, con este índice.
+
+alter table variant_entity add column updated_at timestamp(6) with time zone default current_timestamp not null;
+create index idx_variant_updated_at on variant_entity (updated_at);
@@ -0,0 +1,94 @@
+-- Datos de ejemplo para ejecutar la aplicación localmente. Esta ubicación solo
+-- se incluye en la configuración principal; las pruebas y los benchmarks migran
+-- únicamente db/migration y cargan sus propios datos.
+--
+-- Los datos de cada versión del esquema van en V<versión>_<n>, para que se
+-- apliquen después de la migración que crea las columnas que usan.
+
+insert into organization_entity (id, name, tipo) values (1000, 'org1', 1);
+insert into organization_entity (id, name, tipo) values (1001, 'org2', 2);
+
+insert into brand_entity (id, name) values (1000, 'Nativo');
+insert into brand_entity (id, name) values (1001, 'Andes Outdoor');
+insert into brand_entity (id, name) values (1002, 'Casa Pacífico');
+
+insert into designer_entity (id, name, birth_date, description, image) values (1000, 'Lina Cantillo', '1985-03-14', 'Diseñadora de moda urbana.', 'https://imagenes.tienda/disenadores/1000.jpg');
+insert into designer_entity (id, name, birth_date, description, image) values (1001, 'Esteban Cortázar', '1984-02-12', 'Diseñador de alta costura.', 'https://imagenes.tienda/disenadores/1001.jpg');
+insert into designer_entity (id, name, birth_date, description, image) values (1002, 'Johanna Ortiz', '1972-08-30', 'Diseñadora de ropa de verano.', 'https://imagenes.tienda/disenadores/1002.jpg');
+
+insert into prize_entity (id, name, description, premiation_date, designer_id, organization_id) values (1000, 'prize1', 'prize1 desc', '2010-01-01', 1000, 1000);
+insert into prize_entity (id, name, description, premiation_date, designer_id, organization_id) values (1001, 'prize2', 'prize2 desc', '2010-01-01', 1001, 1001);
+
+insert into clothing_entity (id, name, sku, image, release_date, description, brand_id) values (1000, 'Camisa de lino', 'NAT-CAM-001', 'https://imagenes.tienda/prendas/1000.jpg', '2024-01-15', 'Camisa de lino de manga larga.', 1000);
+insert into clothing_entity (id, name, sku, image, release_date, description, brand_id) values (1001, 'Chaqueta impermeable', 'AND-CHA-001', 'https://imagenes.tienda/prendas/1001.jpg', '2024-03-01', 'Chaqueta liviana para lluvia.', 1001);
+insert into clothing_entity (id, name, sku, image, release_date, description, brand_id) values (1002, 'Vestido de playa', 'PAC-VES-001', 'https://imagenes.tienda/prendas/1002.jpg', '2024-06-20', 'Vestido de algodón estampado.', 1002);
+
+insert into clothing_entity_designers (clothing_items_id, designers_id) values (1000, 1000);
+insert into clothing_entity_designers (clothing_items_id, designers_id) values (1001, 1001);
+insert into clothing_entity_designers (clothing_items_id, designers_id) values (1002, 1002);
+insert into clothing_entity_designers (clothing_items_id, designers_id) values (1002, 1000);
+
+insert into category_entity (id, name, description) values (1000, 'Camisetas', 'Camisetas y polos');
+insert into category_entity (id, name, description) values (1001, 'Pantalones', 'Jeans, joggers y pantalones de vestir');
+insert into category_entity (id, name, description) values (1002, 'Chaquetas', 'Chaquetas y abrigos');
+
+insert into operator_entity (id, name, email) values (1000, 'Operador principal', 'operador@tienda.com');
+
+insert into user_entity (id, name, email) values (1000, 'Ana Gómez', 'ana@correo.com');
+insert into user_entity (id, name, email) values (1001, 'Carlos Pérez', 'carlos@correo.com');
+insert into user_entity (id, name, email) values (1002, 'María Rojas', 'maria@correo.com');
+
+insert into product_entity (id, name, description, price, category_id, operator_id) values (1000, 'Camiseta básica', 'Camiseta de algodón de cuello redondo', 39900, 1000, 1000);
+insert into product_entity (id, name, description, price, category_id, operator_id) values (1001, 'Polo piqué', 'Polo de algodón piqué', 69900, 1000, 1000);
+insert into product_entity (id, name, description, price, category_id, operator_id) values (1002, 'Jean clásico', 'Jean de corte recto', 129900, 1001, 1000);
+insert into product_entity (id, name, description, price, category_id, operator_id) values (1003, 'Jogger', 'Pantalón jogger de felpa', 89900, 1001, 1000);
+insert into product_entity (id, name, description, price, category_id, operator_id) values (1004, 'Chaqueta de jean', 'Chaqueta de jean con botones', 159900, 1002, 1000);
+
+insert into variant_entity (id, size, color, stock, product_id) values (1000, 'S', 'Blanco', 20, 1000);
+insert into variant_entity (id, size, color, stock, product_id) values (1001, 'M', 'Blanco', 35, 1000);
+insert into variant_entity (id, size, color, stock, product_id) values (1002, 'M', 'Negro', 15, 1000);
+insert into variant_entity (id, size, color, stock, product_id) values (1003, 'M', 'Azul', 12, 1001);
+insert into variant_entity (id, size, color, stock, product_id) values (1004, '32', 'Azul', 18, 1002);
+insert into variant_entity (id, size, color, stock, product_id) values (1005, '34', 'Azul', 9, 1002);
+insert into variant_entity (id, size, color, stock, product_id) values (1006, 'L', 'Gris', 25, 1003);
+insert into variant_entity (id, size, color, stock, product_id) values (1007, 'M', 'Azul', 7, 1004);
+
+insert into photo_entity (id, url, description, product_id) values (1000, 'https://imagenes.tienda/productos/1000.jpg', 'Vista frontal', 1000);
+insert into photo_entity (id, url, description, product_id) values (1001, 'https://imagenes.tienda/productos/1002.jpg', 'Vista frontal', 1002);
+insert into photo_entity (id, url, description, product_id) values (1002, 'https://imagenes.tienda/productos/1004.jpg', 'Vista frontal', 1004);
+
+insert into video_entity (id, url, description, product_id) values (1000, 'https://videos.tienda/productos/1004.mp4', 'Detalle de la tela', 1004);
+
+insert into review_entity (id, rating, comment, product_id, user_id) values (1000, 5, 'Muy cómoda, la tela es suave.', 1000, 1000);
+insert into review_entity (id, rating, comment, product_id, user_id) values (1001, 4, 'Buena calidad, talla un poco grande.', 1000, 1001);
+insert into review_entity (id, rating, comment, product_id, user_id) values (1002, 3, 'Se encogió después de lavarla.', 1000, 1002);
+insert into review_entity (id, rating, comment, product_id, user_id) values (1003, 5, 'El mejor jean que he tenido.', 1002, 1000);
+insert into review_entity (id, rating, comment, product_id, user_id) values (1004, 2, 'El color se desgastó rápido.', 1002, 1002);
+insert into review_entity (id, rating, comment, product_id, user_id) values (1005, 4, 'Abriga bien.', 1004, 1001);
+insert into review_entity (id, rating, comment, clothing_id, user_id) values (1006, 5, 'Perfecta para el clima de Bogotá.', 1001, 1000);
+
+-- Agregados de calificación de los productos (ver ReviewService)
+update product_entity p set (rating_count, rating_sum, rating_average, rating1count, rating2count, rating3count,
+        rating4count, rating5count) =
+    (select count(*), coalesce(sum(r.rating), 0), avg(r.rating * 1.0),
+        count(case when r.rating = 1 then 1 end), count(case when r.rating = 2 then 1 end),
+        count(case when r.rating = 3 then 1 end), count(case when r.rating = 4 then 1 end),
+        count(case when r.rating = 5 then 1 end)
+     from review_entity r where r.product_id = p.id);
+
+-- Las secuencias continúan después de los ids de ejemplo. Hibernate toma el valor
+-- de la secuencia como el final de un bloque de 50, así que se reinician al menos
+-- 50 por encima del último id usado.
+alter sequence brand_entity_seq restart with 1100;
+alter sequence designer_entity_seq restart with 1100;
+alter sequence clothing_entity_seq restart with 1100;
+alter sequence organization_entity_seq restart with 1100;
+alter sequence prize_entity_seq restart with 1100;
+alter sequence category_entity_seq restart with 1100;
+alter sequence operator_entity_seq restart with 1100;
+alter sequence user_entity_seq restart with 1100;
+alter sequence product_entity_seq restart with 1100;
+alter sequence variant_entity_seq restart with 1100;
+alter sequence photo_entity_seq restart with 1100;
+alter sequence video_entity_seq restart with 1100;
+alter sequence review_entity_seq restart with 1100;
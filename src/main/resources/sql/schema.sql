@@ -1,13 +0,0 @@
-create table author_entity (id bigint generated by default as identity, birth_date date, description varchar(255), image varchar(255), name varchar(255), primary key (id));
-create table book_entity (id bigint generated by default as identity, description varchar(255), image varchar(255), isbn varchar(255), name varchar(255), publishing_date date, editorial_id bigint, primary key (id));
-create table book_entity_authors (books_id bigint not null, authors_id bigint not null);
-create table editorial_entity (id bigint generated by default as identity, name varchar(255), primary key (id));
-create table organization_entity (id bigint generated by default as identity, name varchar(255), tipo integer, primary key (id));
-create table prize_entity (id bigint generated by default as identity, description varchar(255), name varchar(255), premiation_date date, author_id bigint, organization_id bigint, primary key (id));
-create table review_entity (id bigint generated by default as identity, description varchar(255), name varchar(255), source varchar(255), book_id bigint, primary key (id));
-alter table book_entity add constraint FK1ehwxmy79pskqpgt1i01rium4 foreign key (editorial_id) references editorial_entity;
-alter table book_entity_authors add constraint FKle8rxdux9o2denf8dghuojgcc foreign key (authors_id) references author_entity;
-alter table book_entity_authors add constraint FKsxirqbdxvg0p902yqiatf3dhp foreign key (books_id) references book_entity;
-alter table prize_entity add constraint FK27gcu7u3v9gok9cxjlck743yo foreign key (author_id) references author_entity;
-alter table prize_entity add constraint FKbtmt7l64yl3fesx58nlnhoueo foreign key (organization_id) references organization_entity;
-alter table review_entity add constraint FKt9x8aq6blwuwe8q41wicsbjlh foreign key (book_id) references book_entity;
\ No newline at end of file
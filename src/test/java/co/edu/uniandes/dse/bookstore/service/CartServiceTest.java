@@ -0,0 +1,202 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.entities.CartEntity;
+import co.edu.uniandes.dse.bookstore.entities.CartItemEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.CartItemRepository;
+import co.edu.uniandes.dse.bookstore.repositories.CartRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.repositories.UserRepository;
+import co.edu.uniandes.dse.bookstore.services.CartService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Las pruebas corren sin transacción de prueba para que cada hilo haga commit
+ * de verdad, como lo harían varias pestañas del mismo usuario.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CartService.class)
+class CartServiceTest {
+
+    private static final int HILOS = 16;
+    private static final int OPERACIONES_POR_HILO = 50;
+    private static final int USUARIOS_NUEVOS = 10;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+
+    private UserEntity usuario;
+
+    private List<ProductEntity> productos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        usuario = userRepository.save(factory.manufacturePojo(UserEntity.class));
+        for (int i = 0; i < 4; i++) {
+            productos.add(productRepository.save(factory.manufacturePojo(ProductEntity.class)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testAgregarProducto() throws Exception {
+        Long productoId = productos.get(0).getId();
+        cartService.agregarProducto(usuario.getId(), productoId, 2);
+        CartItemEntity item = cartService.agregarProducto(usuario.getId(), productoId, 3);
+
+        assertEquals(5, item.getQuantity());
+        assertEquals(productoId, item.getProduct().getId());
+        // El producto llega cargado: la respuesta se arma fuera de la transacción
+        assertEquals(productos.get(0).getName(), item.getProduct().getName());
+        assertEquals(1, cartItemRepository.count());
+    }
+
+    @Test
+    void testAgregarProductoCantidadInvalida() {
+        assertThrows(IllegalOperationException.class,
+                () -> cartService.agregarProducto(usuario.getId(), productos.get(0).getId(), 0));
+    }
+
+    @Test
+    void testAgregarProductoInexistente() {
+        assertThrows(EntityNotFoundException.class, () -> cartService.agregarProducto(usuario.getId(), 0L, 1));
+    }
+
+    @Test
+    void testCambiarCantidadYEliminar() throws Exception {
+        Long productoId = productos.get(0).getId();
+        cartService.agregarProducto(usuario.getId(), productoId, 1);
+        cartService.agregarProducto(usuario.getId(), productos.get(1).getId(), 1);
+
+        assertEquals(7, cartService.cambiarCantidad(usuario.getId(), productoId, 7).getQuantity());
+
+        cartService.eliminarProducto(usuario.getId(), productoId);
+        CartEntity carrito = cartService.obtenerCarrito(usuario.getId());
+        assertEquals(1, carrito.getItems().size());
+        assertEquals(productos.get(1).getId(), carrito.getItems().get(0).getProduct().getId());
+
+        assertThrows(EntityNotFoundException.class, () -> cartService.eliminarProducto(usuario.getId(), productoId));
+        assertThrows(EntityNotFoundException.class, () -> cartService.cambiarCantidad(usuario.getId(), productoId, 1));
+    }
+
+    /**
+     * Muchos hilos agregan los mismos productos al mismo carrito a la vez: no se
+     * pierde ninguna unidad ni se duplican líneas.
+     */
+    @Test
+    void testAgregarProductoConcurrente() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            resultados.add(executor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < OPERACIONES_POR_HILO; i++) {
+                    ProductEntity producto = productos.get(i % productos.size());
+                    cartService.agregarProducto(usuario.getId(), producto.getId(), 1);
+                }
+                return null;
+            }));
+        }
+        inicio.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1, cartRepository.count());
+        List<CartItemEntity> items = cartService.obtenerCarrito(usuario.getId()).getItems();
+        assertEquals(productos.size(), items.size());
+        int total = items.stream().mapToInt(CartItemEntity::getQuantity).sum();
+        assertEquals(HILOS * OPERACIONES_POR_HILO, total);
+    }
+
+    /**
+     * Dos instancias del servicio (cada una con sus propios candados, como dos
+     * nodos) crean a la vez el carrito y las líneas de usuarios nuevos: quien
+     * choca con la restricción única reintenta y ninguna unidad se pierde.
+     */
+    @Test
+    void testAgregarProductoDesdeDosInstancias() throws Exception {
+        List<CartService> instancias = List.of(cartService, beanFactory.createBean(CartService.class));
+        List<UserEntity> usuarios = new ArrayList<>();
+        for (int i = 0; i < USUARIOS_NUEVOS; i++) {
+            usuarios.add(userRepository.save(factory.manufacturePojo(UserEntity.class)));
+        }
+        Long productoId = productos.get(0).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            CartService instancia = instancias.get(h % instancias.size());
+            resultados.add(executor.submit(() -> {
+                inicio.await();
+                for (UserEntity nuevo : usuarios) {
+                    instancia.agregarProducto(nuevo.getId(), productoId, 1);
+                }
+                return null;
+            }));
+        }
+        inicio.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get();
+        }
+        executor.shutdown();
+
+        assertEquals(usuarios.size(), cartRepository.count());
+        for (UserEntity nuevo : usuarios) {
+            List<CartItemEntity> items = cartService.obtenerCarrito(nuevo.getId()).getItems();
+            assertEquals(1, items.size());
+            assertEquals(HILOS, items.get(0).getQuantity());
+        }
+    }
+}
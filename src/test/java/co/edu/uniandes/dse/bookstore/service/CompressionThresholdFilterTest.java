@@ -0,0 +1,48 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import co.edu.uniandes.dse.bookstore.config.CompressionThresholdFilter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+
+/**
+ * Pruebas del umbral de compresión: un flush solo envía la respuesta cuando lo
+ * escrito supera el umbral.
+ */
+class CompressionThresholdFilterTest {
+
+    private static final int UMBRAL = 2048;
+
+    private final CompressionThresholdFilter filter = new CompressionThresholdFilter(UMBRAL);
+
+    @Test
+    void testRespuestaPequenaNoSeEnviaAlHacerFlush() throws ServletException, IOException {
+        MockHttpServletResponse response = escribir(UMBRAL);
+        assertFalse(response.isCommitted());
+        assertEquals(UMBRAL, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testRespuestaGrandeSeEnviaAlHacerFlush() throws ServletException, IOException {
+        MockHttpServletResponse response = escribir(UMBRAL + 1);
+        assertTrue(response.isCommitted());
+    }
+
+    private MockHttpServletResponse escribir(int bytes) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/productos"), response, (req, res) -> {
+            ServletOutputStream salida = res.getOutputStream();
+            salida.write(new byte[bytes]);
+            salida.flush();
+            res.flushBuffer();
+        });
+        return response;
+    }
+}
@@ -0,0 +1,94 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.repositories.ClothingRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+
+/**
+ * PUT con If-Match: el ETag de un GET previo sirve para una sola actualización;
+ * repetirla con ese ETag viejo es un conflicto y no sobrescribe el cambio.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ClothingRepository clothingRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        clothingRepository.deleteAll();
+    }
+
+    @Test
+    void testActualizarProductoConVersionVieja() throws Exception {
+        ProductEntity producto = new ProductEntity();
+        producto.setName("Camiseta");
+        producto.setPrice(39_900.0);
+        producto = productRepository.save(producto);
+        String url = "/productos/" + producto.getId();
+        String etag = etag(url);
+
+        actualizar(url, etag, "{\"name\": \"Camiseta blanca\", \"price\": 39900}").andExpect(status().isOk());
+        actualizar(url, etag, "{\"name\": \"Camiseta negra\", \"price\": 39900}").andExpect(status().isConflict());
+        assertEquals("Camiseta blanca", productRepository.findById(producto.getId()).get().getName());
+
+        actualizar(url, etag(url), "{\"name\": \"Camiseta negra\", \"price\": 39900}").andExpect(status().isOk());
+        actualizar(url, null, "{\"name\": \"Camiseta\", \"price\": 39900}").andExpect(status().isOk());
+        actualizar(url, "\"otro\"", "{\"name\": \"Camiseta\", \"price\": 39900}")
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testActualizarPrendaConVersionVieja() throws Exception {
+        ClothingEntity prenda = new ClothingEntity();
+        prenda.setName("Chaqueta");
+        prenda.setSku("CH-1");
+        prenda = clothingRepository.save(prenda);
+        String url = "/clothing/" + prenda.getId();
+        String etag = etag(url);
+
+        actualizar(url, etag, "{\"name\": \"Chaqueta impermeable\", \"sku\": \"CH-1\"}").andExpect(status().isOk());
+        actualizar(url, etag, "{\"name\": \"Chaqueta de lana\", \"sku\": \"CH-1\"}").andExpect(status().isConflict());
+        assertEquals("Chaqueta impermeable", clothingRepository.findById(prenda.getId()).get().getName());
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private ResultActions actualizar(String url, String ifMatch, String cuerpo) throws Exception {
+        MockHttpServletRequestBuilder peticion = put(url).contentType(MediaType.APPLICATION_JSON).content(cuerpo);
+        if (ifMatch != null) {
+            peticion.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(peticion);
+    }
+}
@@ -0,0 +1,119 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.PhotoEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * equals, hashCode y toString de las entidades no recorren asociaciones: no
+ * ejecutan sentencias ni inicializan colecciones o proxies.
+ */
+@DataJpaTest
+class EntityIdentityTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+
+    private Statistics statistics;
+
+    private Long productoId;
+
+    @BeforeEach
+    void setUp() {
+        CategoryEntity categoria = entityManager.persist(factory.manufacturePojo(CategoryEntity.class));
+        ProductEntity producto = factory.manufacturePojo(ProductEntity.class);
+        producto.setCategory(categoria);
+        productoId = entityManager.persist(producto).getId();
+
+        PhotoEntity foto = factory.manufacturePojo(PhotoEntity.class);
+        foto.setProduct(producto);
+        entityManager.persist(foto);
+        VariantEntity variante = factory.manufacturePojo(VariantEntity.class);
+        variante.setProduct(producto);
+        entityManager.persist(variante);
+        ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+        review.setProduct(producto);
+        review.setUser(entityManager.persist(factory.manufacturePojo(UserEntity.class)));
+        entityManager.persist(review);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testHashYToStringSinAsociaciones() {
+        ProductEntity producto = entityManager.find(ProductEntity.class, productoId);
+        statistics.clear();
+
+        Set<Object> entidades = new HashSet<>();
+        entidades.add(producto);
+        entidades.add(producto.getCategory());
+        String texto = producto + " " + producto.getCategory();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, entidades.size());
+        assertTrue(texto.contains("id=" + productoId));
+        assertTrue(texto.contains("name=" + producto.getName()));
+        assertFalse(texto.contains("photos") || texto.contains("category=") || texto.contains("products"));
+        assertFalse(Hibernate.isInitialized(producto.getPhotos()));
+        assertFalse(Hibernate.isInitialized(producto.getVariants()));
+        assertFalse(Hibernate.isInitialized(producto.getReviews()));
+        assertFalse(Hibernate.isInitialized(producto.getCategory().getProducts()));
+    }
+
+    @Test
+    void testReferenciaIgualALaEntidad() {
+        ProductEntity referencia = entityManager.getEntityManager().getReference(ProductEntity.class, productoId);
+        ProductEntity copia = new ProductEntity();
+        copia.setId(productoId);
+        CategoryEntity otraClase = new CategoryEntity();
+        otraClase.setId(productoId);
+        statistics.clear();
+
+        assertEquals(copia, referencia);
+        assertEquals(referencia, copia);
+        assertEquals(copia.hashCode(), referencia.hashCode());
+        assertNotEquals(otraClase, copia);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isInitialized(referencia));
+    }
+
+    @Test
+    void testHashEstableAlPersistir() {
+        VariantEntity nueva = factory.manufacturePojo(VariantEntity.class);
+        Set<VariantEntity> variantes = new HashSet<>();
+        variantes.add(nueva);
+
+        entityManager.persist(nueva);
+        assertNotNull(nueva.getId());
+        assertTrue(variantes.contains(nueva));
+        // Sin id solo es igual a sí misma, aunque los atributos coincidan
+        VariantEntity otra = new VariantEntity();
+        VariantEntity igualSinId = new VariantEntity();
+        assertNotEquals(otra, igualSinId);
+        assertEquals(otra, otra);
+    }
+}
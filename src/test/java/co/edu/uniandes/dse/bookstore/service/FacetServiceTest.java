@@ -0,0 +1,213 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductFilterResultDTO;
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.repositories.CategoryRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.services.FacetIndex;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
+import co.edu.uniandes.dse.bookstore.services.ProductService;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
+
+/**
+ * Sin transacción de prueba: el índice solo se actualiza después del commit.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ProductService.class, SearchService.class, FacetService.class })
+class FacetServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private FacetService facetService;
+
+    @SpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategoryEntity camisetas;
+
+    private ProductEntity camiseta;
+
+    private ProductEntity polo;
+
+    private ProductEntity jean;
+
+    @BeforeEach
+    void setUp() {
+        camisetas = categoryRepository.save(categoria("Camisetas"));
+        CategoryEntity pantalones = categoryRepository.save(categoria("Pantalones"));
+        camiseta = productService.crearProducto(producto("Camiseta", 39_900.0, camisetas,
+                variante("Rojo", "M", 5), variante("Azul", "S", 0)));
+        // Tiene rojo y talla M, pero no en la misma variante
+        polo = productService.crearProducto(producto("Polo", 69_900.0, camisetas,
+                variante("rojo", "s", 3), variante("Azul", "M", 2)));
+        jean = productService.crearProducto(producto("Jean", 129_900.0, pantalones, variante("Negro", "M", 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        facetService.reconstruir();
+    }
+
+    @Test
+    void testFiltrarPorVariante() {
+        ProductFilterDTO filtro = new ProductFilterDTO();
+        filtro.setColor(List.of("ROJO"));
+        filtro.setSize(List.of("m"));
+        filtro.setInStock(true);
+
+        ProductFilterResultDTO resultado = facetService.filtrar(filtro, 0, 20);
+        assertEquals(List.of(camiseta.getId()), ids(resultado));
+        assertEquals(1, resultado.getTotal());
+        // Cada faceta se cuenta con los filtros de las demás
+        assertEquals(Map.of("azul", 1, "negro", 1, "rojo", 1), resultado.getFacets().get(FacetIndex.FACETA_COLOR));
+        assertEquals(Map.of("M", 1, "S", 1), resultado.getFacets().get(FacetIndex.FACETA_TALLA));
+
+        filtro.setColor(List.of("azul"));
+        filtro.setSize(List.of("S"));
+        assertTrue(facetService.filtrar(filtro, 0, 20).getItems().isEmpty());
+        filtro.setInStock(false);
+        assertEquals(List.of(camiseta.getId()), ids(facetService.filtrar(filtro, 0, 20)));
+    }
+
+    @Test
+    void testFiltrarPorCategoriaYPrecio() {
+        ProductFilterDTO filtro = new ProductFilterDTO();
+        filtro.setCategory(List.of(String.valueOf(camisetas.getId())));
+        filtro.setPrice(List.of("50000-100000"));
+
+        ProductFilterResultDTO resultado = facetService.filtrar(filtro, 0, 20);
+        assertEquals(List.of(polo.getId()), ids(resultado));
+        assertEquals(Map.of("0-50000", 1, "50000-100000", 1), resultado.getFacets().get(FacetIndex.FACETA_PRECIO));
+        assertEquals(1, resultado.getFacets().get(FacetIndex.FACETA_CATEGORIA).size());
+    }
+
+    @Test
+    void testAgotarVariantes() {
+        ProductFilterDTO filtro = new ProductFilterDTO();
+        filtro.setColor(List.of("rojo"));
+        filtro.setInStock(true);
+        assertEquals(List.of(camiseta.getId(), polo.getId()), ids(facetService.filtrar(filtro, 0, 20)));
+
+        VariantEntity rojaM = camiseta.getVariants().get(0);
+        facetService.agotarVariantes(Map.of(rojaM.getId(), camiseta.getId()));
+        assertEquals(List.of(polo.getId()), ids(facetService.filtrar(filtro, 0, 20)));
+        // Sin el filtro de existencias la variante sigue contando
+        filtro.setInStock(false);
+        assertEquals(List.of(camiseta.getId(), polo.getId()), ids(facetService.filtrar(filtro, 0, 20)));
+    }
+
+    @Test
+    void testPaginarYEliminar() throws EntityNotFoundException {
+        ProductFilterDTO filtro = new ProductFilterDTO();
+        filtro.setSize(List.of("M"));
+        filtro.setInStock(true);
+
+        ProductFilterResultDTO primera = facetService.filtrar(filtro, 0, 2);
+        assertEquals(List.of(camiseta.getId(), polo.getId()), ids(primera));
+        assertEquals(3, primera.getTotal());
+        ProductFilterResultDTO segunda = facetService.filtrar(filtro, Long.parseLong(primera.getNextCursor()), 2);
+        assertEquals(List.of(jean.getId()), ids(segunda));
+        assertNull(segunda.getNextCursor());
+
+        productService.eliminarProducto(jean.getId());
+        assertEquals(2, facetService.filtrar(filtro, 0, 2).getTotal());
+        assertNull(facetService.filtrar(filtro, 0, 2).getFacets().get(FacetIndex.FACETA_COLOR).get("negro"));
+    }
+
+    /**
+     * Un cambio confirmado después de que la reconstrucción leyó el lote de su
+     * producto se repite sobre el índice nuevo antes de publicarlo.
+     */
+    @Test
+    void testCambioDuranteLaReconstruccion() {
+        Answer<?> real = mockingDetails(productRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean reconstruyendo = new AtomicBoolean(false);
+        doAnswer(invocacion -> {
+            Object filas = real.answer(invocacion);
+            if (reconstruyendo.getAndSet(false)) {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        productService.actualizarProducto(jean.getId(), producto("Jean", 29_900.0, null));
+                    } catch (EntityNotFoundException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).join();
+            }
+            return filas;
+        }).when(productRepository).findFacetsByProductIdIn(any());
+
+        reconstruyendo.set(true);
+        facetService.reconstruir();
+
+        ProductFilterDTO filtro = new ProductFilterDTO();
+        filtro.setPrice(List.of("0-50000"));
+        assertEquals(List.of(camiseta.getId(), jean.getId()), ids(facetService.filtrar(filtro, 0, 20)));
+    }
+
+    private static List<Long> ids(ProductFilterResultDTO resultado) {
+        return resultado.getItems().stream().map(ProductSummaryDTO::getId).toList();
+    }
+
+    private static CategoryEntity categoria(String nombre) {
+        CategoryEntity categoria = new CategoryEntity();
+        categoria.setName(nombre);
+        return categoria;
+    }
+
+    private static ProductEntity producto(String nombre, Double precio, CategoryEntity categoria,
+            VariantEntity... variantes) {
+        ProductEntity producto = new ProductEntity();
+        producto.setName(nombre);
+        producto.setPrice(precio);
+        producto.setCategory(categoria);
+        producto.setVariants(new ArrayList<>());
+        for (VariantEntity variante : variantes) {
+            variante.setProduct(producto);
+            producto.getVariants().add(variante);
+        }
+        return producto;
+    }
+
+    private static VariantEntity variante(String color, String talla, int stock) {
+        VariantEntity variante = new VariantEntity();
+        variante.setColor(color);
+        variante.setSize(talla);
+        variante.setStock(stock);
+        return variante;
+    }
+}
@@ -0,0 +1,72 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import co.edu.uniandes.dse.bookstore.config.MetricsConfig;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.metrics.HibernateRequestMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import({ HibernateRequestMetrics.class, MetricsConfig.class, SimpleMeterRegistry.class })
+class HibernateRequestMetricsTest {
+
+    private static final String URI = "/productos";
+
+    @Autowired
+    private HibernateRequestMetrics metrics;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+
+    @BeforeEach
+    void setUp() {
+        entityManager.getEntityManager().createQuery("delete from ProductEntity").executeUpdate();
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(factory.manufacturePojo(ProductEntity.class));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testCuentaSentenciasYEntidadesPorEndpoint() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        metrics.preHandle(request, response, null);
+        entityManager.getEntityManager().createQuery("select p from ProductEntity p", ProductEntity.class)
+                .getResultList();
+        metrics.afterCompletion(request, response, null, null);
+
+        DistributionSummary sentencias = registry.get(HibernateRequestMetrics.METRICA_SENTENCIAS).tag("uri", URI)
+                .summary();
+        DistributionSummary entidades = registry.get(HibernateRequestMetrics.METRICA_ENTIDADES).tag("uri", URI)
+                .summary();
+        assertEquals(1, sentencias.count());
+        assertEquals(1, sentencias.totalAmount());
+        assertEquals(3, entidades.totalAmount());
+    }
+}
@@ -0,0 +1,34 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import co.edu.uniandes.dse.bookstore.metrics.IndexUsageCheck;
+
+/**
+ * Pruebas de la revisión de índices sobre el esquema creado por las migraciones.
+ */
+@DataJpaTest(properties = "bookstore.index-check.enabled=true")
+@Import(IndexUsageCheck.class)
+class IndexUsageCheckTest {
+
+    @Autowired
+    private IndexUsageCheck indexUsageCheck;
+
+    @Test
+    void testBusquedasUsanIndice() {
+        assertEquals(List.of(), indexUsageCheck.revisar());
+    }
+
+    @Test
+    void testDetectaRecorridoCompleto() {
+        assertTrue(indexUsageCheck.usaIndice("select id from clothing_entity where sku = ''"));
+        assertFalse(indexUsageCheck.usaIndice("select id from product_entity where name = ''"));
+    }
+}
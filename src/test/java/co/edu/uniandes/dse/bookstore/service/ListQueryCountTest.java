@@ -0,0 +1,190 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
+import co.edu.uniandes.dse.bookstore.entities.CartEntity;
+import co.edu.uniandes.dse.bookstore.entities.CartItemEntity;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.ClothingEntity;
+import co.edu.uniandes.dse.bookstore.entities.DesignerEntity;
+import co.edu.uniandes.dse.bookstore.entities.OperatorEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrderDetailEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrderEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrganizationEntity;
+import co.edu.uniandes.dse.bookstore.entities.PrizeEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.services.ClothingService;
+import co.edu.uniandes.dse.bookstore.services.OrganizationService;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
+import co.edu.uniandes.dse.bookstore.services.UserService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Los listados ejecutan un número de sentencias que no depende de cuántas filas
+ * devuelven: se cuenta con pocas filas y con el triple, recorriendo todo lo que
+ * la vista del listado serializa. Cada fila tiene sus propias asociaciones
+ * (marca, diseñador, categoría, operador...) para que una carga por fila se note.
+ */
+@DataJpaTest
+@Import({ ClothingService.class, SearchService.class, OrganizationService.class, UserService.class })
+class ListQueryCountTest {
+
+	private static final int POCAS = 2;
+
+	private static final int MUCHAS = 3 * POCAS;
+
+	@Autowired
+	private ClothingService clothingService;
+
+	@Autowired
+	private OrganizationService organizationService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	@Test
+	void testListarPrendas() {
+		assertSentenciasConstantes(this::insertarPrendas, () -> {
+			List<ClothingEntity> prendas = clothingService.getClothingItems();
+			for (ClothingEntity prenda : prendas) {
+				assertNotNull(prenda.getBrand().getName());
+				assertNotNull(prenda.getDescription());
+				assertEquals(1, prenda.getDesigners().size());
+				prenda.getReviews().forEach(review -> assertNotNull(review.getUser().getName()));
+			}
+			return prendas.size();
+		});
+	}
+
+	@Test
+	void testListarOrganizaciones() {
+		assertSentenciasConstantes(this::insertarOrganizaciones, () -> {
+			List<OrganizationEntity> organizaciones = organizationService.getOrganizations();
+			for (OrganizationEntity organizacion : organizaciones) {
+				assertNotNull(organizacion.getPrize().getName());
+				// El diseñador del premio no está en la vista y ya no se carga
+				assertFalse(Hibernate.isInitialized(organizacion.getPrize().getDesigner()));
+			}
+			return organizaciones.size();
+		});
+	}
+
+	@Test
+	void testListarUsuarios() {
+		assertSentenciasConstantes(this::insertarUsuarios, () -> {
+			List<UserEntity> usuarios = userService.obtenerUsuarios();
+			for (UserEntity usuario : usuarios) {
+				assertNotNull(usuario.getCart().getItems().get(0).getProduct().getCategory().getName());
+				OrderEntity orden = usuario.getOrders().get(0);
+				assertNotNull(orden.getOperator().getName());
+				assertNotNull(orden.getOrderDetails().get(0).getProduct().getCategory().getName());
+				assertEquals(1, usuario.getReviews().size());
+			}
+			return usuarios.size();
+		});
+	}
+
+	/**
+	 * Lista con {@link #POCAS} filas y luego con {@link #MUCHAS}, con el
+	 * contexto de persistencia vacío cada vez, y compara las sentencias
+	 * preparadas.
+	 */
+	private void assertSentenciasConstantes(IntConsumer insertar, Supplier<Integer> listar) {
+		insertar.accept(POCAS);
+		long pocas = contarSentencias(listar, POCAS);
+		insertar.accept(MUCHAS - POCAS);
+		long muchas = contarSentencias(listar, MUCHAS);
+		assertEquals(pocas, muchas, "el listado hace sentencias por fila");
+	}
+
+	private long contarSentencias(Supplier<Integer> listar, int filas) {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertEquals(filas, listar.get());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void insertarPrendas(int cantidad) {
+		for (int i = 0; i < cantidad; i++) {
+			ClothingEntity prenda = factory.manufacturePojo(ClothingEntity.class);
+			prenda.setBrand(entityManager.persist(factory.manufacturePojo(BrandEntity.class)));
+			prenda.setDesigners(List.of(entityManager.persist(factory.manufacturePojo(DesignerEntity.class))));
+			entityManager.persist(prenda);
+			for (int j = 0; j < 2; j++) {
+				ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+				review.setClothing(prenda);
+				review.setUser(entityManager.persist(factory.manufacturePojo(UserEntity.class)));
+				entityManager.persist(review);
+			}
+		}
+	}
+
+	private void insertarOrganizaciones(int cantidad) {
+		for (int i = 0; i < cantidad; i++) {
+			OrganizationEntity organizacion = entityManager.persist(factory.manufacturePojo(OrganizationEntity.class));
+			PrizeEntity premio = factory.manufacturePojo(PrizeEntity.class);
+			premio.setOrganization(organizacion);
+			premio.setDesigner(entityManager.persist(factory.manufacturePojo(DesignerEntity.class)));
+			entityManager.persist(premio);
+		}
+	}
+
+	private void insertarUsuarios(int cantidad) {
+		for (int i = 0; i < cantidad; i++) {
+			UserEntity usuario = entityManager.persist(factory.manufacturePojo(UserEntity.class));
+
+			CartEntity carrito = new CartEntity();
+			carrito.setUser(usuario);
+			entityManager.persist(carrito);
+			CartItemEntity item = factory.manufacturePojo(CartItemEntity.class);
+			item.setCart(carrito);
+			item.setProduct(producto());
+			entityManager.persist(item);
+
+			OrderEntity orden = factory.manufacturePojo(OrderEntity.class);
+			orden.setUser(usuario);
+			orden.setOperator(entityManager.persist(factory.manufacturePojo(OperatorEntity.class)));
+			entityManager.persist(orden);
+			OrderDetailEntity detalle = factory.manufacturePojo(OrderDetailEntity.class);
+			detalle.setOrder(orden);
+			detalle.setProduct(producto());
+			entityManager.persist(detalle);
+
+			ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+			review.setUser(usuario);
+			review.setProduct(producto());
+			entityManager.persist(review);
+		}
+	}
+
+	private ProductEntity producto() {
+		ProductEntity producto = factory.manufacturePojo(ProductEntity.class);
+		producto.setCategory(entityManager.persist(factory.manufacturePojo(CategoryEntity.class)));
+		return entityManager.persist(producto);
+	}
+}
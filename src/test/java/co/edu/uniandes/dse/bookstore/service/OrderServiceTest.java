@@ -0,0 +1,204 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
+import co.edu.uniandes.dse.bookstore.entities.OrderDetailEntity;
+import co.edu.uniandes.dse.bookstore.entities.OrderEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.bookstore.repositories.OrderRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.repositories.UserRepository;
+import co.edu.uniandes.dse.bookstore.repositories.VariantRepository;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
+import co.edu.uniandes.dse.bookstore.services.OrderService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Sin transacción de prueba: cada compra hace commit, como en producción.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ OrderService.class, FacetService.class, CacheConfig.class })
+class OrderServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderServiceTest.class);
+
+    private static final int STOCK = 200;
+    private static final int HILOS = 32;
+    private static final int COMPRAS_POR_HILO = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private VariantRepository variantRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+
+    private UserEntity usuario;
+
+    private List<VariantEntity> variantes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        usuario = userRepository.save(factory.manufacturePojo(UserEntity.class));
+        ProductEntity producto = productRepository.save(factory.manufacturePojo(ProductEntity.class));
+        for (int i = 0; i < 2; i++) {
+            VariantEntity variante = factory.manufacturePojo(VariantEntity.class);
+            variante.setProduct(producto);
+            variante.setStock(STOCK);
+            variantes.add(variantRepository.save(variante));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        variantRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testCrearOrden() throws Exception {
+        VariantEntity variante = variantes.get(0);
+        OrderEntity orden = orderService.crearOrden(usuario.getId(),
+                List.of(detalle(variante, 2), detalle(variantes.get(1), 1), detalle(variante, 3)));
+
+        assertEquals(OrderService.ESTADO_CREADA, orden.getStatus());
+        assertEquals(2, orden.getOrderDetails().size());
+        OrderDetailEntity linea = orden.getOrderDetails().get(0);
+        assertEquals(variante.getId(), linea.getVariant().getId());
+        assertEquals(5, linea.getQuantity());
+        assertEquals(variante.getProduct().getPrice(), linea.getPrice());
+        assertEquals(STOCK - 5, stock(variante));
+        assertEquals(STOCK - 1, stock(variantes.get(1)));
+    }
+
+    /**
+     * La compra no escribe la fila del producto: su número de versión no cambia,
+     * pero la fecha de la variante hace avanzar el Last-Modified del producto.
+     */
+    @Test
+    void testCrearOrdenAvanzaModificacionSinTocarElProducto() throws Exception {
+        Long productoId = variantes.get(0).getProduct().getId();
+        VersionDTO antes = productRepository.findVersionById(productoId).get();
+        VersionDTO catalogo = productRepository.findCatalogVersion();
+
+        orderService.crearOrden(usuario.getId(), List.of(detalle(variantes.get(0), 1)));
+
+        VersionDTO despues = productRepository.findVersionById(productoId).get();
+        assertEquals(antes.getVersion(), despues.getVersion());
+        assertTrue(despues.getUpdatedAt().isAfter(antes.getUpdatedAt()));
+        assertEquals(despues.getUpdatedAt(), productRepository.findCatalogVersion().getUpdatedAt());
+        assertNotEquals(catalogo, productRepository.findCatalogVersion());
+    }
+
+    @Test
+    void testCrearOrdenSinStockRevierteTodo() {
+        List<OrderDetailEntity> detalles = List.of(detalle(variantes.get(0), 1), detalle(variantes.get(1), STOCK + 1));
+
+        assertThrows(IllegalOperationException.class, () -> orderService.crearOrden(usuario.getId(), detalles));
+        assertEquals(STOCK, stock(variantes.get(0)));
+        assertEquals(STOCK, stock(variantes.get(1)));
+        assertEquals(0, orderRepository.count());
+    }
+
+    @Test
+    void testCrearOrdenVarianteInexistente() {
+        VariantEntity inexistente = new VariantEntity();
+        inexistente.setId(0L);
+        assertThrows(EntityNotFoundException.class,
+                () -> orderService.crearOrden(usuario.getId(), List.of(detalle(inexistente, 1))));
+    }
+
+    /**
+     * Muchos hilos compran la misma variante a la vez, pidiendo más unidades de
+     * las que hay: se venden exactamente las existentes y el stock queda en cero.
+     */
+    @Test
+    void testCrearOrdenConcurrenteNoSobrevende() throws Exception {
+        VariantEntity variante = variantes.get(0);
+        AtomicInteger exitosas = new AtomicInteger();
+        AtomicInteger rechazadas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            resultados.add(executor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < COMPRAS_POR_HILO; i++) {
+                    try {
+                        orderService.crearOrden(usuario.getId(), List.of(detalle(variante, 1)));
+                        exitosas.incrementAndGet();
+                    } catch (IllegalOperationException e) {
+                        rechazadas.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long inicioNanos = System.nanoTime();
+        inicio.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get();
+        }
+        double segundos = (System.nanoTime() - inicioNanos) / 1e9;
+        executor.shutdown();
+
+        log.info("{} compras ({} exitosas) en {} s: {} compras/s", HILOS * COMPRAS_POR_HILO, exitosas.get(),
+                String.format("%.2f", segundos), String.format("%.0f", HILOS * COMPRAS_POR_HILO / segundos));
+        assertEquals(STOCK, exitosas.get());
+        assertEquals(HILOS * COMPRAS_POR_HILO - STOCK, rechazadas.get());
+        assertEquals(0, stock(variante));
+        assertEquals(STOCK, orderRepository.count());
+    }
+
+    private int stock(VariantEntity variante) {
+        return variantRepository.findById(variante.getId()).get().getStock();
+    }
+
+    private static OrderDetailEntity detalle(VariantEntity variante, int cantidad) {
+        VariantEntity referencia = new VariantEntity();
+        referencia.setId(variante.getId());
+        OrderDetailEntity detalle = new OrderDetailEntity();
+        detalle.setVariant(referencia);
+        detalle.setQuantity(cantidad);
+        return detalle;
+    }
+}
@@ -0,0 +1,119 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.dto.ImportErrorDTO;
+import co.edu.uniandes.dse.bookstore.dto.ImportResultDTO;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.mappers.ProductMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ReferenceMapperImpl;
+import co.edu.uniandes.dse.bookstore.mappers.ReviewMapperImpl;
+import co.edu.uniandes.dse.bookstore.repositories.CategoryRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.repositories.VariantRepository;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
+import co.edu.uniandes.dse.bookstore.services.ProductImportService;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
+
+/**
+ * Sin transacción de prueba: el servicio confirma cada lote por separado.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ProductImportService.class, SearchService.class, FacetService.class, ProductMapperImpl.class, ReviewMapperImpl.class,
+        ReferenceMapperImpl.class, JacksonAutoConfiguration.class })
+class ProductImportServiceTest {
+
+    private static final int PRODUCTOS = 2500;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private VariantRepository variantRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategoryEntity categoria;
+
+    @BeforeEach
+    void setUp() {
+        categoria = new CategoryEntity();
+        categoria.setName("Importados");
+        categoria = categoryRepository.save(categoria);
+    }
+
+    @AfterEach
+    void tearDown() {
+        variantRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testImportarProductosConVariantes() throws Exception {
+        ImportResultDTO resultado = importar(lineas(PRODUCTOS, categoria.getId()));
+
+        assertEquals(PRODUCTOS, resultado.getTotal());
+        assertEquals(PRODUCTOS, resultado.getImported());
+        assertEquals(0, resultado.getFailed());
+        assertEquals(PRODUCTOS, productRepository.count());
+        assertEquals(PRODUCTOS * 2L, variantRepository.count());
+    }
+
+    @Test
+    void testImportarReportaErroresPorLinea() throws Exception {
+        StringBuilder entrada = new StringBuilder(lineas(3, categoria.getId()));
+        entrada.append("{\"name\": \"Roto\", \"price\": \n");
+        entrada.append("{\"name\": \"\", \"price\": 10}\n");
+        entrada.append("\n");
+        entrada.append("{\"name\": \"Sin categoría\", \"price\": 10, \"category\": {\"id\": 999999}}\n");
+        entrada.append("{\"name\": \"Variante\", \"price\": 10, \"variants\": [{\"stock\": -1}]}\n");
+        entrada.append("{\"name\": \"Foto nula\", \"price\": 10, \"photos\": [null]}\n");
+        entrada.append("{\"name\": \"Video nulo\", \"price\": 10, \"videos\": [null]}\n");
+        entrada.append("{\"name\": \"Variante nula\", \"price\": 10, \"variants\": [null]}\n");
+        entrada.append(lineas(2, null));
+
+        ImportResultDTO resultado = importar(entrada.toString());
+
+        assertEquals(12, resultado.getTotal());
+        assertEquals(5, resultado.getImported());
+        assertEquals(7, resultado.getFailed());
+        assertEquals(List.of(4L, 5L, 7L, 8L, 9L, 10L, 11L), resultado.getErrors().stream().map(ImportErrorDTO::getLine).sorted().toList());
+        assertEquals(5, productRepository.count());
+    }
+
+    private ImportResultDTO importar(String ndjson) throws Exception {
+        return productImportService.importar(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String lineas(int cantidad, Long categoriaId) {
+        String categoria = categoriaId != null ? ", \"category\": {\"id\": " + categoriaId + "}" : "";
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < cantidad; i++) {
+            ndjson.append("{\"name\": \"Producto ").append(i).append("\", \"description\": \"Importado\", \"price\": ")
+                    .append(10 + i).append(categoria)
+                    .append(", \"variants\": [{\"color\": \"rojo\", \"size\": \"M\", \"stock\": 5},")
+                    .append(" {\"color\": \"azul\", \"size\": \"L\", \"stock\": 3}]}\n");
+        }
+        return ndjson.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import co.edu.uniandes.dse.bookstore.config.CacheConfig;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
+import co.edu.uniandes.dse.bookstore.services.ProductService;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import({ ProductService.class, SearchService.class, FacetService.class, CacheConfig.class })
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+class ProductServiceCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+
+    private ProductEntity product;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.PRODUCTOS);
+        cache.clear();
+        product = factory.manufacturePojo(ProductEntity.class);
+        entityManager.persist(product);
+    }
+
+    @Test
+    void testObtenerProductoUsaCache() throws EntityNotFoundException {
+        CacheStats antes = stats();
+        ProductEntity primero = productService.obtenerProducto(product.getId());
+        ProductEntity segundo = productService.obtenerProducto(product.getId());
+
+        assertSame(primero, segundo);
+        CacheStats stats = stats().minus(antes);
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.hitCount());
+    }
+
+    @Test
+    void testActualizarProductoInvalidaCache() throws EntityNotFoundException {
+        productService.obtenerProducto(product.getId());
+        assertNotNull(cache.get(product.getId()));
+
+        ProductEntity cambios = factory.manufacturePojo(ProductEntity.class);
+        productService.actualizarProducto(product.getId(), cambios);
+        assertNull(cache.get(product.getId()));
+
+        assertEquals(cambios.getName(), productService.obtenerProducto(product.getId()).getName());
+    }
+
+    @Test
+    void testEliminarProductoInvalidaCache() throws EntityNotFoundException {
+        productService.obtenerProducto(product.getId());
+        productService.eliminarProducto(product.getId());
+
+        assertNull(cache.get(product.getId()));
+        assertThrows(EntityNotFoundException.class, () -> productService.obtenerProducto(product.getId()));
+    }
+
+    @Test
+    void testProductoInexistenteNoSeGuarda() {
+        assertThrows(EntityNotFoundException.class, () -> productService.obtenerProducto(0L));
+        assertNull(cache.get(0L));
+    }
+
+    private CacheStats stats() {
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).stats();
+    }
+}
@@ -7,22 +7,37 @@ import java.util.List;
 
 import jakarta.transaction.Transactional;
 
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import co.edu.uniandes.dse.bookstore.dto.ProductSummaryDTO;
+import co.edu.uniandes.dse.bookstore.dto.VersionDTO;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.PhotoEntity;
 import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.VariantEntity;
+import co.edu.uniandes.dse.bookstore.entities.VideoEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
 import co.edu.uniandes.dse.bookstore.services.ProductService;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(ProductService.class)
+@Import({ ProductService.class, SearchService.class, FacetService.class })
 class ProductServiceTest {
 
     @Autowired
@@ -53,6 +68,55 @@ class ProductServiceTest {
         }
     }
 
+    private void insertChildren() {
+        CategoryEntity category = factory.manufacturePojo(CategoryEntity.class);
+        entityManager.persist(category);
+        for (ProductEntity product : productList) {
+            product.setCategory(category);
+            PhotoEntity photo = factory.manufacturePojo(PhotoEntity.class);
+            photo.setProduct(product);
+            entityManager.persist(photo);
+            VideoEntity video = factory.manufacturePojo(VideoEntity.class);
+            video.setProduct(product);
+            entityManager.persist(video);
+            for (int i = 0; i < 2; i++) {
+                VariantEntity variant = factory.manufacturePojo(VariantEntity.class);
+                variant.setProduct(product);
+                entityManager.persist(variant);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    void testRecorrerProductosPorLotes() {
+        insertChildren();
+        List<List<Long>> lotes = new ArrayList<>();
+        List<ProductEntity> anteriores = new ArrayList<>();
+        productService.recorrerProductos(2, lote -> {
+            // El lote anterior ya no está en el contexto de persistencia
+            anteriores.forEach(product -> assertFalse(entityManager.getEntityManager().contains(product)));
+            lote.forEach(product -> {
+                assertTrue(Hibernate.isInitialized(product.getVariants()));
+                assertEquals(2, product.getVariants().size());
+            });
+            lotes.add(lote.stream().map(ProductEntity::getId).toList());
+            anteriores.clear();
+            anteriores.addAll(lote);
+        });
+        assertEquals(List.of(2, 1), lotes.stream().map(List::size).toList());
+        assertEquals(productList.stream().map(ProductEntity::getId).sorted().toList(),
+                lotes.stream().flatMap(List::stream).toList());
+    }
+
     @Test
     void testCrearProducto() {
         ProductEntity newProduct = factory.manufacturePojo(ProductEntity.class);
@@ -79,6 +143,85 @@ class ProductServiceTest {
         }
     }
 
+    @Test
+    void testObtenerProductosPaginados() {
+        Page<ProductEntity> page = productService.obtenerProductos(PageRequest.of(0, 2, Sort.by("id")));
+        assertEquals(productList.size(), page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        assertEquals(productList.get(0).getId(), page.getContent().get(0).getId());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void testObtenerProductosDespuesDe() {
+        List<ProductEntity> list = productService.obtenerProductosDespuesDe(productList.get(0).getId(), 10);
+        assertEquals(productList.size() - 1, list.size());
+        assertEquals(productList.get(1).getId(), list.get(0).getId());
+        assertEquals(productList.get(2).getId(), list.get(1).getId());
+
+        List<ProductEntity> limited = productService.obtenerProductosDespuesDe(0L, 1);
+        assertEquals(1, limited.size());
+        assertEquals(productList.get(0).getId(), limited.get(0).getId());
+    }
+
+    @Test
+    void testObtenerProductosConsultasAcotadas() {
+        insertChildren();
+        Statistics statistics = resetStatistics();
+        Page<ProductEntity> page = productService.obtenerProductos(PageRequest.of(0, 10, Sort.by("id")));
+        // página con categoría + fotos + videos + variantes; sin COUNT porque la página no se llenó
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(productList.size(), page.getContent().size());
+        for (ProductEntity entity : page) {
+            assertTrue(Hibernate.isInitialized(entity.getCategory()));
+            assertTrue(Hibernate.isInitialized(entity.getPhotos()));
+            assertTrue(Hibernate.isInitialized(entity.getVideos()));
+            assertTrue(Hibernate.isInitialized(entity.getVariants()));
+            assertFalse(Hibernate.isInitialized(entity.getReviews()));
+            assertEquals(1, entity.getPhotos().size());
+            assertEquals(2, entity.getVariants().size());
+        }
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testObtenerResumenProductosConsultasAcotadas() {
+        insertChildren();
+        Statistics statistics = resetStatistics();
+        Page<ProductSummaryDTO> page = productService.obtenerResumenProductos(PageRequest.of(0, 10, Sort.by("id")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(productList.size(), page.getContent().size());
+        ProductSummaryDTO summary = page.getContent().get(0);
+        assertEquals(productList.get(0).getId(), summary.getId());
+        assertEquals(productList.get(0).getName(), summary.getName());
+        assertEquals(productList.get(0).getCategory().getName(), summary.getCategoryName());
+
+        List<ProductSummaryDTO> after = productService.obtenerResumenProductosDespuesDe(summary.getId(), 10);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(productList.size() - 1, after.size());
+    }
+
+    @Test
+    void testObtenerProductosPorIdsConsultasAcotadas() {
+        insertChildren();
+        Long inexistente = productList.get(2).getId() + 1000;
+        List<Long> ids = List.of(productList.get(2).getId(), inexistente, productList.get(0).getId());
+        Statistics statistics = resetStatistics();
+        List<ProductEntity> productos = productService.obtenerProductosPorIds(ids);
+        // productos con categoría + fotos + videos + variantes, sin importar cuántos ids se pidan
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(2, productos.size());
+        for (ProductEntity entity : productos) {
+            assertTrue(Hibernate.isInitialized(entity.getCategory()));
+            assertTrue(Hibernate.isInitialized(entity.getVariants()));
+        }
+
+        assertEquals(2, productService.obtenerResumenProductosPorIds(ids).size());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertTrue(productService.obtenerProductosPorIds(List.of()).isEmpty());
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
     @Test
     void testObtenerProducto() throws EntityNotFoundException {
         ProductEntity entity = productList.get(0);
@@ -108,6 +251,33 @@ class ProductServiceTest {
         assertEquals(pojoEntity.getPrice(), resp.getPrice());
     }
 
+    @Test
+    void testVersionProductoSinCargarlo() throws EntityNotFoundException {
+        ProductEntity entity = productList.get(0);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = resetStatistics();
+        VersionDTO version = productService.obtenerVersionProducto(entity.getId());
+        assertEquals(0L, version.getVersion());
+        assertNotNull(version.getUpdatedAt());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertThrows(EntityNotFoundException.class, () -> productService.obtenerVersionProducto(0L));
+    }
+
+    @Test
+    void testActualizarProductoAvanzaVersion() throws EntityNotFoundException {
+        ProductEntity entity = productList.get(0);
+        VersionDTO catalogo = productService.obtenerVersionCatalogo();
+        assertEquals(productList.size(), catalogo.getVersion());
+
+        productService.actualizarProducto(entity.getId(), factory.manufacturePojo(ProductEntity.class));
+        entityManager.flush();
+        VersionDTO version = productService.obtenerVersionProducto(entity.getId());
+        assertEquals(1L, version.getVersion());
+        assertNotEquals(catalogo, productService.obtenerVersionCatalogo());
+    }
+
     @Test
     void testActualizarProductoInvalido() {
         assertThrows(EntityNotFoundException.class, () -> {
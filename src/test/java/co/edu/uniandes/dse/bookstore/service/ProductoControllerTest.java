@@ -0,0 +1,30 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Resolución de las consultas de listado que comparten la ruta /productos y se
+ * distinguen por sus parámetros.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testDespuesDeYPorIdsSonExcluyentes() throws Exception {
+        mockMvc.perform(get("/productos").param("after", "0")).andExpect(status().isOk());
+        mockMvc.perform(get("/productos").param("ids", "1,2")).andExpect(status().isOk());
+        mockMvc.perform(get("/productos").param("after", "0").param("ids", "1,2"))
+                .andExpect(status().isBadRequest());
+    }
+}
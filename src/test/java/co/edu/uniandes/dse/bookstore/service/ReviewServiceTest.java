@@ -30,12 +30,16 @@ import java.util.List;
 
 import jakarta.transaction.Transactional;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+
+import co.edu.uniandes.dse.bookstore.dto.CursorPageDTO;
 import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
 import co.edu.uniandes.dse.bookstore.entities.ReviewEntity;
 import co.edu.uniandes.dse.bookstore.exceptions.EntityNotFoundException;
@@ -103,7 +107,7 @@ class ReviewServiceTest {
 	 * Prueba para crear un Review.
 	 */
 	@Test
-	void testCreateReview() throws EntityNotFoundException {
+	void testCreateReview() throws EntityNotFoundException, IllegalOperationException {
 		ReviewEntity newEntity = factory.manufacturePojo(ReviewEntity.class);
 				
 		ReviewEntity result = reviewService.createReview(productEntity.getId(), newEntity);
@@ -123,6 +127,50 @@ class ReviewServiceTest {
 		});
 	}
 
+	/**
+	 * Prueba para crear un Review con una calificación fuera de rango.
+	 */
+	@Test
+	void testCreateReviewInvalidRating() {
+		assertThrows(IllegalOperationException.class, () -> {
+			ReviewEntity newEntity = factory.manufacturePojo(ReviewEntity.class);
+			newEntity.setRating(6);
+			reviewService.createReview(productEntity.getId(), newEntity);
+		});
+	}
+
+	/**
+	 * Prueba que los agregados de calificación del producto se mantienen al crear,
+	 * actualizar y eliminar reseñas, y que cada ajuste avanza la versión del
+	 * producto.
+	 */
+	@Test
+	void testRatingAggregates() throws EntityNotFoundException, IllegalOperationException {
+		ProductEntity product = factory.manufacturePojo(ProductEntity.class);
+		entityManager.persist(product);
+
+		ReviewEntity first = reviewService.createReview(product.getId(), review(5));
+		reviewService.createReview(product.getId(), review(4));
+		ReviewEntity third = reviewService.createReview(product.getId(), review(3));
+		reviewService.updateReview(product.getId(), third.getId(), review(1));
+		reviewService.deleteReview(product.getId(), first.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		ProductEntity stored = entityManager.find(ProductEntity.class, product.getId());
+		assertEquals(2, stored.getRatingCount());
+		assertEquals(5, stored.getRatingSum());
+		assertEquals(2.5, stored.getRatingAverage());
+		assertEquals(List.of(1L, 0L, 0L, 1L, 0L), stored.getRatingHistogram());
+		assertEquals(6L, stored.getVersion());
+	}
+
+	private ReviewEntity review(int rating) {
+		ReviewEntity review = factory.manufacturePojo(ReviewEntity.class);
+		review.setRating(rating);
+		return review;
+	}
+
 	/**
 	 * Prueba para consultar la lista de Reviews.
 	 */
@@ -162,6 +210,101 @@ class ReviewServiceTest {
 		assertEquals(entity.getId(), resultEntity.getId());
 	}
 
+	/**
+	 * Prueba que consultar un Review es una sola consulta por producto y reseña.
+	 */
+	@Test
+	void testGetReviewSingleQuery() throws EntityNotFoundException {
+		ReviewEntity entity = reviewList.get(0);
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		reviewService.getReview(productEntity.getId(), entity.getId());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	/**
+	 * Prueba para consultar un Review a través de un producto al que no pertenece.
+	 */
+	@Test
+	void testGetReviewOtherProduct() {
+		ProductEntity other = factory.manufacturePojo(ProductEntity.class);
+		entityManager.persist(other);
+		assertThrows(EntityNotFoundException.class, () -> {
+			reviewService.getReview(other.getId(), reviewList.get(0).getId());
+		});
+		assertThrows(EntityNotFoundException.class, () -> {
+			reviewService.deleteReview(other.getId(), reviewList.get(0).getId());
+		});
+	}
+
+	/**
+	 * Prueba para recorrer por cursor los Reviews ordenados por calificación, con
+	 * una consulta por página.
+	 */
+	@Test
+	void testGetReviewsCursorByRating() throws EntityNotFoundException, IllegalOperationException {
+		ProductEntity product = factory.manufacturePojo(ProductEntity.class);
+		entityManager.persist(product);
+		List<ReviewEntity> reviews = new ArrayList<>();
+		for (int rating : new int[] { 3, 5, 1, 5, 3 }) {
+			ReviewEntity entity = review(rating);
+			entity.setProduct(product);
+			entityManager.persist(entity);
+			reviews.add(entity);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			CursorPageDTO<ReviewEntity> page = reviewService.getReviews(product.getId(), ReviewService.ORDER_RATING,
+					2, 5, cursor, 2);
+			page.getItems().forEach(entity -> ids.add(entity.getId()));
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(2, pages);
+		assertEquals(pages, statistics.getPrepareStatementCount());
+		// Calificación descendente y, a igual calificación, la más reciente primero
+		assertEquals(List.of(reviews.get(3).getId(), reviews.get(1).getId(), reviews.get(4).getId(),
+				reviews.get(0).getId()), ids);
+	}
+
+	/**
+	 * Prueba para consultar por cursor los Reviews más recientes y rechazar un
+	 * cursor de otro orden.
+	 */
+	@Test
+	void testGetReviewsCursorByRecency() throws EntityNotFoundException, IllegalOperationException {
+		CursorPageDTO<ReviewEntity> first = reviewService.getReviews(productEntity.getId(),
+				ReviewService.ORDER_RECENT, 1, 5, null, 2);
+		assertEquals(List.of(reviewList.get(2).getId(), reviewList.get(1).getId()),
+				first.getItems().stream().map(ReviewEntity::getId).toList());
+		assertNotNull(first.getNextCursor());
+
+		CursorPageDTO<ReviewEntity> last = reviewService.getReviews(productEntity.getId(),
+				ReviewService.ORDER_RECENT, 1, 5, first.getNextCursor(), 2);
+		assertEquals(List.of(reviewList.get(0).getId()), last.getItems().stream().map(ReviewEntity::getId).toList());
+		assertNull(last.getNextCursor());
+
+		assertThrows(IllegalOperationException.class, () -> {
+			reviewService.getReviews(productEntity.getId(), ReviewService.ORDER_RATING, 1, 5, first.getNextCursor(), 2);
+		});
+		assertThrows(EntityNotFoundException.class, () -> {
+			reviewService.getReviews(0L, ReviewService.ORDER_RECENT, 1, 5, null, 2);
+		});
+	}
+
 	/**
 	 * Prueba para consultar un Review que no existe.
 	 */
@@ -176,7 +319,7 @@ class ReviewServiceTest {
 	 * Prueba para actualizar un Review.
 	 */
 	@Test
-	void testUpdateReview() throws EntityNotFoundException {
+	void testUpdateReview() throws EntityNotFoundException, IllegalOperationException {
 		ReviewEntity entity = reviewList.get(0);
 		ReviewEntity pojoEntity = factory.manufacturePojo(ReviewEntity.class);
 
@@ -0,0 +1,161 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.dto.SearchResultDTO;
+import co.edu.uniandes.dse.bookstore.entities.CategoryEntity;
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.repositories.CategoryRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.services.FacetService;
+import co.edu.uniandes.dse.bookstore.services.ProductService;
+import co.edu.uniandes.dse.bookstore.services.SearchService;
+
+/**
+ * Sin transacción de prueba: el índice solo se actualiza después del commit.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ProductService.class, SearchService.class, FacetService.class })
+class SearchServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @SpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private ProductEntity camiseta;
+
+    private ProductEntity chaqueta;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CategoryEntity categoria = new CategoryEntity();
+        categoria.setName("Ropa deportiva");
+        categoria = categoryRepository.save(categoria);
+        camiseta = productService.crearProducto(producto("Camiseta algodón", "Camiseta básica de manga corta", categoria));
+        chaqueta = productService.crearProducto(producto("Chaqueta impermeable", "Chaqueta para lluvia con capucha", null));
+        productService.crearProducto(producto("Pantalón", "Pantalón de algodón orgánico", null));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        searchService.reconstruir();
+    }
+
+    @Test
+    void testBuscarPorNombre() {
+        List<SearchResultDTO> resultados = buscar("chaqueta");
+        assertEquals(1, resultados.size());
+        assertEquals(chaqueta.getId(), resultados.get(0).getId());
+        assertEquals(SearchService.TIPO_PRODUCTO, resultados.get(0).getType());
+    }
+
+    @Test
+    void testBuscarOrdenaPorRelevancia() {
+        List<SearchResultDTO> resultados = buscar("algodon");
+        assertEquals(2, resultados.size());
+        // En el nombre pesa más que en la descripción
+        assertEquals(camiseta.getId(), resultados.get(0).getId());
+    }
+
+    @Test
+    void testBuscarPorPrefijoYConErrores() {
+        assertEquals(chaqueta.getId(), buscar("impermea").get(0).getId());
+        assertEquals(chaqueta.getId(), buscar("chaqeta").get(0).getId());
+        assertEquals(camiseta.getId(), buscar("deportiva").get(0).getId());
+    }
+
+    @Test
+    void testBuscarPaginado() {
+        Page<SearchResultDTO> pagina = searchService.buscar("algodon", null, PageRequest.of(1, 1));
+        assertEquals(2, pagina.getTotalElements());
+        assertEquals(1, pagina.getContent().size());
+    }
+
+    @Test
+    void testActualizarYEliminarReindexa() throws Exception {
+        ProductEntity cambios = producto("Chaleco", "Chaleco acolchado", null);
+        productService.actualizarProducto(chaqueta.getId(), cambios);
+        assertTrue(buscar("impermeable").isEmpty());
+        assertEquals(chaqueta.getId(), buscar("chaleco").get(0).getId());
+
+        productService.eliminarProducto(chaqueta.getId());
+        assertTrue(buscar("chaleco").isEmpty());
+    }
+
+    /**
+     * Un cambio confirmado después de leído el lote de la reconstrucción, y antes
+     * de indexarlo, queda una sola vez y con sus datos nuevos.
+     */
+    @Test
+    void testEscrituraDuranteLaReconstruccion() throws Exception {
+        Answer<?> real = mockingDetails(productRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean primerLote = new AtomicBoolean(true);
+        doAnswer(invocacion -> {
+            Object lote = real.answer(invocacion);
+            if (!primerLote.getAndSet(false)) {
+                return lote;
+            }
+            CompletableFuture.runAsync(() -> {
+                try {
+                    productService.actualizarProducto(chaqueta.getId(), producto("Chaleco", "Chaleco acolchado", null));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get();
+            return lote;
+        }).when(productRepository).findWithCategoryAfter(anyLong(), any());
+
+        searchService.reconstruir();
+
+        assertTrue(buscar("impermeable").isEmpty());
+        List<SearchResultDTO> resultados = buscar("chaleco");
+        assertEquals(1, resultados.size());
+        assertEquals(chaqueta.getId(), resultados.get(0).getId());
+        assertEquals(2, buscar("algodon").size());
+    }
+
+    private List<SearchResultDTO> buscar(String texto) {
+        return searchService.buscar(texto, SearchService.TIPO_PRODUCTO, PageRequest.of(0, 10)).getContent();
+    }
+
+    private static ProductEntity producto(String nombre, String descripcion, CategoryEntity categoria) {
+        ProductEntity producto = new ProductEntity();
+        producto.setName(nombre);
+        producto.setDescription(descripcion);
+        producto.setPrice(10.0);
+        producto.setCategory(categoria);
+        return producto;
+    }
+}
@@ -0,0 +1,96 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.config.SecondLevelCacheConfig;
+import co.edu.uniandes.dse.bookstore.entities.BrandEntity;
+import co.edu.uniandes.dse.bookstore.repositories.BrandRepository;
+import jakarta.persistence.EntityManagerFactory;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la caché de segundo nivel con las regiones declaradas en
+ * propiedades. Cada llamada al repositorio es su propia transacción, como entre
+ * peticiones distintas.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=true",
+		"spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+		"spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+		"bookstore.hibernate-cache.regions.categories.maximum-size=10",
+		"bookstore.hibernate-cache.regions.brands.maximum-size=10",
+		"bookstore.hibernate-cache.regions.organizations.maximum-size=10",
+		"bookstore.hibernate-cache.regions.designers.maximum-size=10",
+		"bookstore.hibernate-cache.regions.clothing-designers.maximum-size=10",
+		"bookstore.hibernate-cache.regions.reference-queries.maximum-size=10",
+		"bookstore.hibernate-cache.regions.default-query-results-region.maximum-size=10",
+		"bookstore.hibernate-cache.regions.default-update-timestamps-region.maximum-size=10" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheConfig.class)
+class SecondLevelCacheTest {
+
+	@Autowired
+	private BrandRepository brandRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private PodamFactory factory = new PodamFactoryImpl();
+
+	private BrandEntity brand;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		brand = brandRepository.save(factory.manufacturePojo(BrandEntity.class));
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		brandRepository.deleteAll();
+	}
+
+	/**
+	 * Prueba que una marca ya leída no vuelve a consultarse en la base de datos.
+	 */
+	@Test
+	void testEntidadDesdeCache() {
+		assertTrue(brandRepository.findById(brand.getId()).isPresent());
+		assertTrue(brandRepository.findById(brand.getId()).isPresent());
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertEquals(2, statistics.getSecondLevelCacheHitCount());
+	}
+
+	/**
+	 * Prueba que la búsqueda por nombre se cachea y se invalida al modificar la
+	 * tabla.
+	 */
+	@Test
+	void testBusquedaPorNombreDesdeCache() {
+		assertEquals(1, brandRepository.findByName(brand.getName()).size());
+		assertEquals(1, brandRepository.findByName(brand.getName()).size());
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(1, statistics.getQueryCacheHitCount());
+
+		BrandEntity other = factory.manufacturePojo(BrandEntity.class);
+		other.setName(brand.getName());
+		brandRepository.save(other);
+		assertEquals(2, brandRepository.findByName(brand.getName()).size());
+	}
+}
@@ -0,0 +1,97 @@
+package co.edu.uniandes.dse.bookstore.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.bookstore.entities.ProductEntity;
+import co.edu.uniandes.dse.bookstore.entities.UserEntity;
+import co.edu.uniandes.dse.bookstore.repositories.CartItemRepository;
+import co.edu.uniandes.dse.bookstore.repositories.CartRepository;
+import co.edu.uniandes.dse.bookstore.repositories.ProductRepository;
+import co.edu.uniandes.dse.bookstore.repositories.UserRepository;
+import co.edu.uniandes.dse.bookstore.services.CartService;
+import co.edu.uniandes.dse.bookstore.services.UserService;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Sin transacción de prueba, como en una petición sin open-in-view: lo que el
+ * servicio no cargó lanza LazyInitializationException al recorrerlo.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ UserService.class, CartService.class })
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+
+    private UserEntity usuario;
+
+    private ProductEntity producto;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        usuario = userRepository.save(factory.manufacturePojo(UserEntity.class));
+        userRepository.save(factory.manufacturePojo(UserEntity.class));
+        producto = productRepository.save(factory.manufacturePojo(ProductEntity.class));
+        cartService.agregarProducto(usuario.getId(), producto.getId(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testObtenerUsuarioCargaLaVistaCompleta() throws Exception {
+        UserEntity encontrado = userService.obtenerUsuario(usuario.getId());
+        assertEquals(producto.getName(), encontrado.getCart().getItems().get(0).getProduct().getName());
+        assertTrue(encontrado.getOrders().isEmpty());
+        assertTrue(encontrado.getReviews().isEmpty());
+    }
+
+    @Test
+    void testObtenerUsuariosCargaLaVistaCompleta() {
+        List<UserEntity> usuarios = userService.obtenerUsuarios();
+        assertEquals(2, usuarios.size());
+        for (UserEntity u : usuarios) {
+            if (u.getCart() != null) {
+                assertEquals(2, u.getCart().getItems().get(0).getQuantity());
+                assertNotNull(u.getCart().getItems().get(0).getProduct().getName());
+            }
+            assertTrue(u.getOrders().isEmpty());
+            assertTrue(u.getReviews().isEmpty());
+        }
+    }
+}